@@ -7,6 +7,7 @@ import {
   IconButton,
   Fab,
   CircularProgress,
+  Button,
 } from '@mui/material';
 import { 
   Refresh as RefreshIcon, 
@@ -14,7 +15,7 @@ import {
   Add as AddIcon 
 } from '@mui/icons-material';
 import { useSearchParams } from 'react-router-dom';
-import { newsApi } from '../services/api';
+import { newsApi, nextCursorOf, PAGE_SIZE } from '../services/api';
 import InstagramPost from './InstagramPost';
 import { useTheme } from '../contexts/ThemeContext';
 
@@ -29,6 +30,8 @@ function NewsList({
   const [news, setNews] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [searchParams, setSearchParams] = useSearchParams();
   const { theme } = useTheme();
 
@@ -69,6 +72,7 @@ function NewsList({
     try {
       const response = await newsApi.getDailyNews(selectedLanguage);
       setNews(response.data);
+      setNextCursor(nextCursorOf(response));
       setError(null);
     } catch (err) {
       setError(err.message || 'Failed to fetch daily news. Please try again later.');
@@ -81,8 +85,9 @@ function NewsList({
   const fetchNewsByCategory = async () => {
     setLoading(true);
     try {
-      const response = await newsApi.getNewsByCategory(selectedCategory, 20, selectedLanguage);
+      const response = await newsApi.getNewsByCategory(selectedCategory, PAGE_SIZE, selectedLanguage);
       setNews(response.data);
+      setNextCursor(nextCursorOf(response));
       setError(null);
     } catch (err) {
       setError(err.message || 'Failed to fetch news by category. Please try again later.');
@@ -92,6 +97,23 @@ function NewsList({
     }
   };
 
+  // Appends the next page of the current feed
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const response = selectedCategory
+        ? await newsApi.getNewsByCategory(selectedCategory, PAGE_SIZE, selectedLanguage, nextCursor)
+        : await newsApi.getDailyNews(selectedLanguage, nextCursor);
+      setNews((current) => [...current, ...response.data]);
+      setNextCursor(nextCursorOf(response));
+    } catch (err) {
+      setError(err.message || 'Failed to fetch more news. Please try again later.');
+      console.error('Error fetching more news:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDeleteNews = async (id) => {
     try {
       await newsApi.deleteNews(id);
@@ -223,6 +245,16 @@ function NewsList({
             theme={theme}
           />
         ))}
+        {nextCursor && (
+          <Button
+            variant="outlined"
+            onClick={handleLoadMore}
+            disabled={loadingMore}
+            startIcon={loadingMore ? <CircularProgress size={20} color="inherit" /> : null}
+          >
+            Load more
+          </Button>
+        )}
       </Box>
 
       {/* Empty State */}
@@ -9,7 +9,7 @@ import {
   Paper,
 } from '@mui/material';
 import { Search as SearchIcon } from '@mui/icons-material';
-import { newsApi } from '../services/api';
+import { newsApi, PAGE_SIZE } from '../services/api';
 import InstagramPost from './InstagramPost';
 import { useTheme } from '../contexts/ThemeContext';
 
@@ -18,6 +18,9 @@ function SearchNews() {
   const [news, setNews] = useState([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
+  const [page, setPage] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const { theme } = useTheme();
 
   const handleSearch = async (e) => {
@@ -30,6 +33,9 @@ function SearchNews() {
     try {
       const response = await newsApi.searchNews(keyword);
       setNews(response.data);
+      setPage(0);
+      // A full page means there may be more results
+      setHasMore(response.data.length === PAGE_SIZE);
       if (response.data.length === 0) {
         setError('No news found for your search term.');
       }
@@ -41,6 +47,22 @@ function SearchNews() {
     }
   };
 
+  // Appends the next page of results for the current keyword
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await newsApi.searchNews(keyword, page + 1);
+      setNews((current) => [...current, ...response.data]);
+      setPage(page + 1);
+      setHasMore(response.data.length === PAGE_SIZE);
+    } catch (err) {
+      setError(err.message || 'Failed to search news. Please try again.');
+      console.error('Error searching news:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDeleteNews = async (id) => {
     try {
       await newsApi.deleteNews(id);
@@ -151,6 +173,16 @@ function SearchNews() {
             theme={theme}
           />
         ))}
+        {hasMore && (
+          <Button
+            variant="outlined"
+            onClick={handleLoadMore}
+            disabled={loadingMore}
+            startIcon={loadingMore ? <CircularProgress size={20} color="inherit" /> : null}
+          >
+            Load more
+          </Button>
+        )}
       </Box>
 
       {/* Empty State */}
@@ -64,23 +64,32 @@ api.interceptors.response.use(
   }
 );
 
+// Query parameter for the cursor of the next page, empty for the first page
+const cursorParam = (cursor) => (cursor ? `&cursor=${encodeURIComponent(cursor)}` : '');
+
+// Cursor of the page after this response, or null on the last page
+export const nextCursorOf = (response) => response.headers['x-next-cursor'] || null;
+
+// Number of articles the backend returns per page unless asked otherwise
+export const PAGE_SIZE = 20;
+
 // News API service methods
 export const newsApi = {
-  // Get daily news bulletin
-  getDailyNews: (targetLanguage = 'en') => 
-    api.get(`/api/news/dailyBulletin?targetLanguage=${targetLanguage}`),
+  // Get a page of the daily news bulletin
+  getDailyNews: (targetLanguage = 'en', cursor = null) => 
+    api.get(`/api/news/dailyBulletin?targetLanguage=${targetLanguage}&limit=${PAGE_SIZE}${cursorParam(cursor)}`),
 
-  // Search news by keyword
-  searchNews: (keyword) => 
-    api.get(`/api/news/search?keyword=${encodeURIComponent(keyword)}`),
+  // Search news by keyword, one page of results ranked by relevance
+  searchNews: (keyword, page = 0) => 
+    api.get(`/api/news/search?keyword=${encodeURIComponent(keyword)}&page=${page}&limit=${PAGE_SIZE}`),
 
   // Fetch external news
   fetchExternalNews: (query, targetLanguage = 'en') => 
     api.get(`/api/news/external?query=${encodeURIComponent(query)}&targetLanguage=${targetLanguage}`),
 
-  // Get news by category
-  getNewsByCategory: (category, limit = 20, targetLanguage = 'en') => 
-    api.get(`/api/news/dailyBulletin/${category}?limit=${limit}&targetLanguage=${targetLanguage}`),
+  // Get a page of news by category
+  getNewsByCategory: (category, limit = PAGE_SIZE, targetLanguage = 'en', cursor = null) => 
+    api.get(`/api/news/dailyBulletin/${category}?limit=${limit}&targetLanguage=${targetLanguage}${cursorParam(cursor)}`),
 
   // Get all categories
   getAllCategories: () => 
@@ -0,0 +1,67 @@
+package org.demo.services.impl;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content and image extraction over saved publisher pages. Extraction removes boilerplate nodes from
+ * the document, so every invocation works on a fresh copy of the parsed page.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ArticleExtractionBenchmark {
+
+    private static final String BASE_URL = "https://news.example.com/2025/10/03/story";
+
+    @Param({"article-semantic.html", "article-story-body.html", "article-fallback.html"})
+    private String page;
+
+    private WebScraperService webScraperService;
+    private String html;
+    private byte[] bytes;
+    private Document parsed;
+    private Document document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        webScraperService = new WebScraperService(null, null, null, null, null, null);
+        html = BenchmarkFixtures.read(page);
+        bytes = html.getBytes(StandardCharsets.UTF_8);
+        parsed = Jsoup.parse(html, BASE_URL);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyDocument() {
+        document = parsed.clone();
+    }
+
+    @Benchmark
+    public String extractArticleContent() {
+        return webScraperService.extractArticleContent(document);
+    }
+
+    @Benchmark
+    public String extractArticleImage() {
+        return webScraperService.extractArticleImage(document, BASE_URL);
+    }
+
+    @Benchmark
+    public void parseAndExtract(Blackhole blackhole) {
+        Document doc = Jsoup.parse(html, BASE_URL);
+        blackhole.consume(webScraperService.extractArticleContent(doc));
+        blackhole.consume(webScraperService.extractArticleImage(doc, BASE_URL));
+    }
+
+    @Benchmark
+    public void parseDownloadedPageAndExtract(Blackhole blackhole) throws IOException {
+        Document doc = webScraperService.parseArticlePage(bytes, StandardCharsets.UTF_8, BASE_URL);
+        blackhole.consume(webScraperService.extractArticle(doc, BASE_URL, null));
+    }
+}
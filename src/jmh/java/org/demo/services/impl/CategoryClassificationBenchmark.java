@@ -0,0 +1,40 @@
+package org.demo.services.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of keyword based category classification on realistic article sizes
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CategoryClassificationBenchmark {
+
+    @Param({"1000", "5000", "20000"})
+    private int contentLength;
+
+    private CategoryClassificationServiceImpl classificationService;
+    private String title;
+    private String description;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        classificationService = new CategoryClassificationServiceImpl();
+        String text = BenchmarkFixtures.read("article-text.txt");
+        StringBuilder body = new StringBuilder(contentLength);
+        while (body.length() < contentLength) {
+            body.append(text);
+        }
+        content = body.substring(0, contentLength);
+        title = text.substring(0, text.indexOf('.') + 1);
+        description = text.substring(0, Math.min(300, text.length()));
+    }
+
+    @Benchmark
+    public String classifyNewsCategory() {
+        return classificationService.classifyNewsCategory(title, description, content);
+    }
+}
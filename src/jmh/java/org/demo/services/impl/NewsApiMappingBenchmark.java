@@ -0,0 +1,46 @@
+package org.demo.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.demo.models.dto.NewsDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a newsdata.io response and mapping of its results to NewsDTOs
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NewsApiMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] responseJson;
+    private NewsServiceImpl.NewsApiResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same defaults as the ObjectMapper Spring Boot configures for WebClient
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseJson = BenchmarkFixtures.readBytes("newsdata-response.json");
+        response = objectMapper.readValue(responseJson, NewsServiceImpl.NewsApiResponse.class);
+    }
+
+    @Benchmark
+    public NewsServiceImpl.NewsApiResponse deserializeResponse() throws IOException {
+        return objectMapper.readValue(responseJson, NewsServiceImpl.NewsApiResponse.class);
+    }
+
+    @Benchmark
+    public List<NewsDTO> mapToNewsDTO() {
+        List<NewsDTO> newsDTOs = new ArrayList<>(response.getResults().size());
+        for (NewsServiceImpl.NewsApiResponse.NewsResult result : response.getResults()) {
+            newsDTOs.add(NewsServiceImpl.mapToNewsDTO(result));
+        }
+        return newsDTOs;
+    }
+}
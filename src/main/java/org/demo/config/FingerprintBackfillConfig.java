@@ -0,0 +1,120 @@
+package org.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.News;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills in the duplicate detection fingerprint of articles stored before the column existed.
+ * Fingerprints are computed with {@link News#fingerprintOf} itself, page by page, so that
+ * backfilled rows match the fingerprints of newly fetched articles exactly.
+ * <p>
+ * The fingerprint is the article's unique key. Schemas created before that still carry the
+ * unique key on (title, source_url) and a plain fingerprint index. Migrating them deletes every
+ * article whose fingerprint repeats an older one, so it only runs after the backfill when
+ * {@code news.fingerprint.migrate-unique-key} is set; back up the {@code news} table first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FingerprintBackfillConfig implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+    private static final String FINGERPRINT_INDEX = "idx_news_fingerprint";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${news.fingerprint.migrate-unique-key:false}")
+    private boolean migrateUniqueKeyEnabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+        migrateUniqueKey();
+    }
+
+    private void backfill() {
+        try {
+            int updated = 0;
+            long lastId = 0;
+            List<Map<String, Object>> rows;
+            do {
+                // Paged by ID, so a row that cannot be updated is not read again
+                rows = jdbcTemplate.queryForList("SELECT id, title, description FROM news " +
+                        "WHERE fingerprint IS NULL AND id > ? ORDER BY id LIMIT ?", lastId, PAGE_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Object[]> updates = rows.stream()
+                        .map(row -> new Object[]{
+                                News.fingerprintOf((String) row.get("title"), (String) row.get("description")),
+                                row.get("id")})
+                        .toList();
+                jdbcTemplate.batchUpdate("UPDATE news SET fingerprint = ? WHERE id = ?", updates);
+                updated += rows.size();
+                lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            } while (rows.size() == PAGE_SIZE);
+            if (updated > 0) {
+                log.info("Backfilled fingerprints of {} news articles", updated);
+            }
+        } catch (Exception e) {
+            log.error("Error backfilling news fingerprints: {}", e.getMessage(), e);
+        }
+    }
+
+    private void migrateUniqueKey() {
+        try {
+            Integer uniqueFingerprint = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = ? AND non_unique = 0",
+                    Integer.class, FINGERPRINT_INDEX);
+            if (uniqueFingerprint != null && uniqueFingerprint > 0) {
+                log.debug("Unique index {} already present", FINGERPRINT_INDEX);
+                return;
+            }
+            if (!migrateUniqueKeyEnabled) {
+                log.warn("news(fingerprint) is not unique yet. Back up the news table and start once with " +
+                        "news.fingerprint.migrate-unique-key=true to delete duplicate articles and add {}", FINGERPRINT_INDEX);
+                return;
+            }
+
+            // Articles with the same fingerprint are the same article to the application; keep the oldest row
+            List<Long> duplicateIds = jdbcTemplate.queryForList("SELECT DISTINCT n.id FROM news n JOIN news kept " +
+                    "ON kept.fingerprint = n.fingerprint AND kept.id < n.id ORDER BY n.id", Long.class);
+            if (!duplicateIds.isEmpty()) {
+                log.info("Deleting {} duplicate news articles before making the fingerprint unique, IDs: {}",
+                        duplicateIds.size(), duplicateIds);
+                jdbcTemplate.batchUpdate("DELETE FROM news WHERE id = ?",
+                        duplicateIds.stream().map(id -> new Object[]{id}).toList());
+            }
+
+            List<String> titleKeys = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT index_name FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'news' AND non_unique = 0 " +
+                    "AND index_name <> 'PRIMARY' AND column_name = 'title'", String.class);
+            for (String index : titleKeys) {
+                log.info("Dropping unique key {} on news(title, source_url)", index);
+                jdbcTemplate.execute("ALTER TABLE news DROP INDEX `" + index + "`");
+            }
+
+            Integer plainIndex = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = ?",
+                    Integer.class, FINGERPRINT_INDEX);
+            log.info("Creating unique index {} on news(fingerprint)", FINGERPRINT_INDEX);
+            jdbcTemplate.execute("ALTER TABLE news " +
+                    (plainIndex != null && plainIndex > 0 ? "DROP INDEX " + FINGERPRINT_INDEX + ", " : "") +
+                    "ADD UNIQUE INDEX " + FINGERPRINT_INDEX + " (fingerprint)");
+        } catch (Exception e) {
+            log.error("Error making the news fingerprint unique: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.demo.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Scrape meters are tagged by publisher host; beyond this many hosts further ones are not recorded
+     */
+    @Bean
+    public MeterFilter scrapeHostTagLimit(@Value("${news.metrics.max-hosts:200}") int maxHosts) {
+        return MeterFilter.maximumAllowableTags("news.scrape", "host", maxHosts, MeterFilter.deny());
+    }
+
+    /**
+     * The target language comes from request parameters, so its tag values are capped as well
+     */
+    @Bean
+    public MeterFilter translationLanguageTagLimit(@Value("${news.metrics.max-languages:50}") int maxLanguages) {
+        return MeterFilter.maximumAllowableTags("news.translation", "language", maxLanguages, MeterFilter.deny());
+    }
+}
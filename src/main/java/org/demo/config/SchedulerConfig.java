@@ -0,0 +1,20 @@
+package org.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * Bounded worker pool for JPA calls made from reactive pipelines, sized like the connection pool
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler dbScheduler(@Value("${news.db.scheduler.threads:5}") int threads,
+                                 @Value("${news.db.scheduler.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "news-db");
+    }
+}
@@ -0,0 +1,33 @@
+package org.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import org.demo.services.impl.HostHealthTracker;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/scraperhosts} with the breaker state, adaptive timeout and
+ * latency histogram of every publisher host the scraper has contacted. Like the other actuator
+ * endpoints it is only served on the management port.
+ */
+@Component
+@Endpoint(id = "scraperhosts")
+@RequiredArgsConstructor
+public class ScraperHostsEndpoint {
+
+    private final HostHealthTracker hostHealth;
+
+    @ReadOperation
+    public Map<String, HostHealthTracker.HostSnapshot> hosts() {
+        return hostHealth.snapshot();
+    }
+
+    @ReadOperation
+    public HostHealthTracker.HostSnapshot host(@Selector String host) {
+        return hostHealth.snapshot(host);
+    }
+}
@@ -0,0 +1,48 @@
+package org.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT index used by news search. JPA schema generation cannot declare
+ * FULLTEXT indexes, so it is added here on startup when missing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexConfig implements ApplicationRunner {
+
+    static final String FULLTEXT_INDEX = "ft_news_search";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${news.search.fulltext.enabled:true}")
+    private boolean fullTextEnabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!fullTextEnabled) {
+            return;
+        }
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'news' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX);
+            if (existing != null && existing > 0) {
+                log.debug("FULLTEXT index {} already present", FULLTEXT_INDEX);
+                return;
+            }
+            log.info("Creating FULLTEXT index {} on news(title, description, content)", FULLTEXT_INDEX);
+            jdbcTemplate.execute("ALTER TABLE news ADD FULLTEXT INDEX " + FULLTEXT_INDEX +
+                    " (title, description, content)");
+        } catch (Exception e) {
+            log.error("Error creating FULLTEXT index {}: {}", FULLTEXT_INDEX, e.getMessage(), e);
+        }
+    }
+}
@@ -11,10 +11,18 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.demo.models.News;
+import org.demo.models.dto.CursorPage;
+import org.demo.models.dto.NewsCursor;
 import org.demo.models.dto.NewsDTO;
+import org.demo.models.dto.NewsSummaryDTO;
 import org.demo.services.NewsService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -25,24 +33,36 @@ import java.util.List;
 @Tag(name = "News Management", description = "APIs for managing news articles, including search, categorization, and external news fetching")
 public class NewsController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final NewsService newsService;
 
-    @Operation(summary = "Search news articles", description = "Search for news articles by keyword")
+    @Operation(summary = "Search news articles", description = "Search for news articles by keyword, ranked by relevance or newest first. Quoted parts of the keyword are matched as phrases. " +
+            "With sort=recent the response carries an X-Next-Cursor header to request the following page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
                     content = @Content(schema = @Schema(implementation = News.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid search keyword"),
+            @ApiResponse(responseCode = "400", description = "Invalid search keyword or cursor"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/search")
     public ResponseEntity<List<News>> searchNews(
             @Parameter(description = "Keyword to search for in news articles", required = true)
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @Parameter(description = "Result order: relevance or recent (default: relevance)", example = "relevance")
+            @RequestParam(defaultValue = "relevance") String sort,
+            @Parameter(description = "Zero-based page number for relevance ordering (default: 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of results per page, at most 100 (default: 20)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page (recent ordering only)")
+            @RequestParam(required = false) String cursor) {
         log.debug("Received request to search news with keyword: {}", keyword);
+        NewsCursor newsCursor = parseCursor(cursor);
         try {
-            List<News> results = newsService.searchNews(keyword);
-            log.debug("Found {} news items matching keyword: {}", results.size(), keyword);
-            return ResponseEntity.ok(results);
+            CursorPage<News> results = newsService.searchNews(keyword, sort, page, limit, newsCursor);
+            log.debug("Found {} news items matching keyword: {}", results.items().size(), keyword);
+            return pageResponse(results);
         } catch (Exception e) {
             log.error("Error searching news with keyword {}: {}", keyword, e.getMessage(), e);
             throw e;
@@ -50,7 +70,8 @@ public class NewsController {
     }
 
 
-    @Operation(summary = "Fetch external news", description = "Fetch and save news articles from external API based on query")
+    @Operation(summary = "Fetch external news", description = "Fetch and save news articles from external API based on query. " +
+            "Configured queries and categories are ingested in the background; this endpoint is for ad hoc queries")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "External news fetched and saved successfully",
                     content = @Content(schema = @Schema(implementation = News.class))),
@@ -58,51 +79,78 @@ public class NewsController {
             @ApiResponse(responseCode = "500", description = "Internal server error or external API failure")
     })
     @GetMapping("/external")
-    public ResponseEntity<List<News>> fetchExternalNews(
+    public Mono<ResponseEntity<List<News>>> fetchExternalNews(
             @Parameter(description = "Search query for external news API", required = true)
             @RequestParam String query,
             @Parameter(description = "Target language for translation (default: en)", example = "en")
             @RequestParam(defaultValue = "en") String targetLanguage) {
         log.debug("Received request to fetch and save external news with query: {} in language: {}", 
                  query, targetLanguage);
-        try {
-            List<News> externalNews = newsService.fetchNewsFromExternalApi(query, targetLanguage);
-            log.debug("Retrieved and saved {} news items from external API", externalNews.size());
-            return ResponseEntity.ok(externalNews);
-        } catch (Exception e) {
-            log.error("Error fetching and saving external news with query {}: {}", query, e.getMessage(), e);
-            throw e;
-        }
+        return newsService.fetchNewsFromExternalApiReactive(query, targetLanguage)
+                .doOnNext(externalNews -> log.debug("Retrieved and saved {} news items from external API", externalNews.size()))
+                .map(ResponseEntity::ok)
+                .doOnError(e -> log.error("Error fetching and saving external news with query {}: {}", query, e.getMessage(), e));
     }
 
 
-    @Operation(summary = "Get daily news bulletin", description = "Retrieve the daily news bulletin in the specified language")
+    @Operation(summary = "Stream external news", description = "Fetch and save news articles like /external, but stream every article as soon as it is " +
+            "enriched and saved, as newline-delimited JSON or as server-sent events depending on the Accept header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream of fetched and saved news articles",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = News.class)),
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = News.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Invalid query or language code"),
+            @ApiResponse(responseCode = "500", description = "Internal server error or external API failure")
+    })
+    @GetMapping(value = "/external/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<News> streamExternalNews(
+            @Parameter(description = "Search query for external news API", required = true)
+            @RequestParam String query,
+            @Parameter(description = "Target language for translation (default: en)", example = "en")
+            @RequestParam(defaultValue = "en") String targetLanguage) {
+        log.debug("Received request to stream external news with query: {} in language: {}", query, targetLanguage);
+        return newsService.streamNewsFromExternalApi(query, targetLanguage)
+                .doOnComplete(() -> log.debug("Finished streaming external news for query: {}", query))
+                .doOnError(e -> log.error("Error streaming external news with query {}: {}", query, e.getMessage(), e));
+    }
+
+
+    @Operation(summary = "Get daily news bulletin", description = "Retrieve today's news, newest first, in the specified language. " +
+            "The X-Next-Cursor response header holds the cursor for the following page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Daily news bulletin retrieved successfully",
                     content = @Content(schema = @Schema(implementation = News.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid language code"),
+            @ApiResponse(responseCode = "400", description = "Invalid language code or cursor"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/dailyBulletin")
     public ResponseEntity<List<News>> getDailyNews(
             @Parameter(description = "Target language for translation (default: en)", example = "en")
-            @RequestParam(defaultValue = "en") String targetLanguage) {
+            @RequestParam(defaultValue = "en") String targetLanguage,
+            @Parameter(description = "Maximum number of articles to return, at most 100 (default: 20)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
         log.debug("Received request to get daily news bulletin in language: {}", targetLanguage);
+        NewsCursor newsCursor = parseCursor(cursor);
         try {
-            List<News> dailyNews = newsService.getDailyNews(targetLanguage);
-            log.debug("Retrieved {} news items for daily bulletin", dailyNews.size());
-            return ResponseEntity.ok(dailyNews);
+            CursorPage<News> dailyNews = newsService.getDailyNews(targetLanguage, limit, newsCursor);
+            log.debug("Retrieved {} news items for daily bulletin", dailyNews.items().size());
+            return pageResponse(dailyNews);
         } catch (Exception e) {
             log.error("Error getting daily news bulletin: {}", e.getMessage(), e);
             throw e;
         }
     }
     // Category-related endpoints
-    @Operation(summary = "Get news by category", description = "Retrieve the latest news articles for a specific category")
+    @Operation(summary = "Get news by category", description = "Retrieve the latest news articles for a specific category. " +
+            "The X-Next-Cursor response header holds the cursor for the following page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category news retrieved successfully",
                     content = @Content(schema = @Schema(implementation = News.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid category or parameters"),
+            @ApiResponse(responseCode = "400", description = "Invalid category, parameters or cursor"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -110,22 +158,140 @@ public class NewsController {
     public ResponseEntity<List<News>> getLatestNewsByCategory(
             @Parameter(description = "News category to filter by", required = true, example = "technology")
             @PathVariable String category,
-            @Parameter(description = "Maximum number of articles to return (default: 20)", example = "20")
+            @Parameter(description = "Maximum number of articles to return, at most 100 (default: 20)", example = "20")
             @RequestParam(defaultValue = "20") int limit,
             @Parameter(description = "Target language for translation (default: en)", example = "en")
-            @RequestParam(defaultValue = "en") String targetLanguage) {
+            @RequestParam(defaultValue = "en") String targetLanguage,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
         log.debug("Received request to get latest {} news items for category: {} in language: {}", 
                  limit, category, targetLanguage);
+        NewsCursor newsCursor = parseCursor(cursor);
         try {
-            List<News> categoryNews = newsService.getLatestNewsByCategory(category, targetLanguage);
-            log.debug("Retrieved {} news items for category: {}", categoryNews.size(), category);
-            return ResponseEntity.ok(categoryNews);
+            CursorPage<News> categoryNews = newsService.getLatestNewsByCategory(category, targetLanguage, limit, newsCursor);
+            log.debug("Retrieved {} news items for category: {}", categoryNews.items().size(), category);
+            return pageResponse(categoryNews);
         } catch (Exception e) {
             log.error("Error getting latest news by category {}: {}", category, e.getMessage(), e);
             throw e;
         }
     }
 
+    // Summary endpoints for list views; they never load the article content
+    @Operation(summary = "Get daily news summaries", description = "Retrieve today's news as summaries without the article content, newest first. " +
+            "The X-Next-Cursor response header holds the cursor for the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Daily news summaries retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = NewsSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid language code or cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/summaries/dailyBulletin")
+    public ResponseEntity<List<NewsSummaryDTO>> getDailyNewsSummaries(
+            @Parameter(description = "Target language for translation (default: en)", example = "en")
+            @RequestParam(defaultValue = "en") String targetLanguage,
+            @Parameter(description = "Maximum number of articles to return, at most 100 (default: 20)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
+        log.debug("Received request to get daily news summaries in language: {}", targetLanguage);
+        NewsCursor newsCursor = parseCursor(cursor);
+        try {
+            CursorPage<NewsSummaryDTO> summaries = newsService.getDailyNewsSummaries(targetLanguage, limit, newsCursor);
+            log.debug("Retrieved {} news summaries for daily bulletin", summaries.items().size());
+            return pageResponse(summaries);
+        } catch (Exception e) {
+            log.error("Error getting daily news summaries: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Get news summaries by category", description = "Retrieve the latest news summaries for a specific category without the article content. " +
+            "The X-Next-Cursor response header holds the cursor for the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category news summaries retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = NewsSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid category, parameters or cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/summaries/dailyBulletin/{category}")
+    public ResponseEntity<List<NewsSummaryDTO>> getLatestNewsSummariesByCategory(
+            @Parameter(description = "News category to filter by", required = true, example = "technology")
+            @PathVariable String category,
+            @Parameter(description = "Maximum number of articles to return, at most 100 (default: 20)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Target language for translation (default: en)", example = "en")
+            @RequestParam(defaultValue = "en") String targetLanguage,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
+        log.debug("Received request to get latest {} news summaries for category: {} in language: {}",
+                 limit, category, targetLanguage);
+        NewsCursor newsCursor = parseCursor(cursor);
+        try {
+            CursorPage<NewsSummaryDTO> summaries = newsService.getLatestNewsSummariesByCategory(category, targetLanguage, limit, newsCursor);
+            log.debug("Retrieved {} news summaries for category: {}", summaries.items().size(), category);
+            return pageResponse(summaries);
+        } catch (Exception e) {
+            log.error("Error getting latest news summaries by category {}: {}", category, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Search news summaries", description = "Search news articles like /search, returning summaries without the article content")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = NewsSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid search keyword or cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/summaries/search")
+    public ResponseEntity<List<NewsSummaryDTO>> searchNewsSummaries(
+            @Parameter(description = "Keyword to search for in news articles", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "Result order: relevance or recent (default: relevance)", example = "relevance")
+            @RequestParam(defaultValue = "relevance") String sort,
+            @Parameter(description = "Zero-based page number for relevance ordering (default: 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of results per page, at most 100 (default: 20)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page (recent ordering only)")
+            @RequestParam(required = false) String cursor) {
+        log.debug("Received request to search news summaries with keyword: {}", keyword);
+        NewsCursor newsCursor = parseCursor(cursor);
+        try {
+            CursorPage<NewsSummaryDTO> results = newsService.searchNewsSummaries(keyword, sort, page, limit, newsCursor);
+            log.debug("Found {} news summaries matching keyword: {}", results.items().size(), keyword);
+            return pageResponse(results);
+        } catch (Exception e) {
+            log.error("Error searching news summaries with keyword {}: {}", keyword, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Get a news article", description = "Retrieve the full article, including its content, by ID in the specified language")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "News article retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = News.class))),
+            @ApiResponse(responseCode = "404", description = "News article not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/article/{id}")
+    public ResponseEntity<News> getNewsById(
+            @Parameter(description = "ID of the news article", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Target language for translation (default: en)", example = "en")
+            @RequestParam(defaultValue = "en") String targetLanguage) {
+        log.debug("Received request to get news with ID: {} in language: {}", id, targetLanguage);
+        try {
+            return newsService.getNewsById(id, targetLanguage)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Error getting news with ID {}: {}", id, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     @Operation(summary = "Get all categories", description = "Retrieve all available news categories")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Categories retrieved successfully",
@@ -182,4 +348,20 @@ public class NewsController {
         }
     }
 
-} 
\ No newline at end of file
+    private NewsCursor parseCursor(String cursor) {
+        try {
+            return NewsCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejecting malformed cursor: {}", cursor);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private <T> ResponseEntity<List<T>> pageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
@@ -0,0 +1,35 @@
+package org.demo.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The content selector that last won for a publisher's pages, so that later pages from the same
+ * host are extracted with it directly
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "host_extraction_profile")
+public class HostExtractionProfile {
+    @Id
+    @Column(name = "host", length = 255)
+    private String host;
+
+    @Column(name = "content_selector", nullable = false, length = 255)
+    private String contentSelector;
+
+    // Pages in a row on which the selector found no usable content
+    @Column(name = "consecutive_misses", nullable = false)
+    private int consecutiveMisses;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public HostExtractionProfile(String host) {
+        this.host = host;
+    }
+}
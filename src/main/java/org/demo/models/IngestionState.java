@@ -0,0 +1,35 @@
+package org.demo.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the background ingestion for one configured source, e.g. {@code q:climate} or
+ * {@code category:technology}
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "ingestion_state")
+public class IngestionState {
+    @Id
+    @Column(name = "source_key", length = 255)
+    private String sourceKey;
+
+    // Publication date of the newest article seen for this source; older items are not fetched again
+    @Column(name = "last_published_at")
+    private LocalDateTime lastPublishedAt;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "last_ingested_count")
+    private Integer lastIngestedCount;
+
+    public IngestionState(String sourceKey) {
+        this.sourceKey = sourceKey;
+    }
+}
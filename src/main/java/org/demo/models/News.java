@@ -1,17 +1,25 @@
 package org.demo.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
 
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "news", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"title", "source_url"})
+@Table(name = "news", indexes = {
+    @Index(name = "idx_news_published_at_id", columnList = "published_at, id"),
+    @Index(name = "idx_news_category_published_at", columnList = "category, published_at"),
+    @Index(name = "idx_news_fingerprint", columnList = "fingerprint", unique = true)
 })
 @Schema(description = "News article entity")
 public class News {
@@ -55,8 +63,47 @@ public class News {
     @Schema(description = "Category of the news article", example = "technology", allowableValues = {"technology", "sports", "politics", "entertainment", "business", "health", "science"})
     private String category;
 
+    // SHA-256 of the normalized title and description; the unique key of an article
+    @JsonIgnore
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        category = normalizeCategory(category);
+        if (fingerprint == null) {
+            fingerprint = fingerprintOf(title, description);
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        category = normalizeCategory(category);
+    }
+
+    /**
+     * Categories are stored upper case so that category filters are plain index lookups
+     */
+    public static String normalizeCategory(String category) {
+        return category == null ? null : category.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Duplicate detection key of an article: hex SHA-256 of the trimmed, lower case title and
+     * description. {@code FingerprintBackfillConfig} fills it in for older rows by calling this method.
+     */
+    public static String fingerprintOf(String title, String description) {
+        String source = normalizeForFingerprint(title) + "\n" + normalizeForFingerprint(description);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalizeForFingerprint(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,37 @@
+package org.demo.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "news_translation", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"source_hash", "target_language"})
+})
+public class NewsTranslation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the source text, hex encoded
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(name = "target_language", nullable = false, length = 16)
+    private String targetLanguage;
+
+    @Column(name = "translated_text", columnDefinition = "MEDIUMTEXT")
+    private String translatedText;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
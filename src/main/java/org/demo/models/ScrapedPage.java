@@ -0,0 +1,42 @@
+package org.demo.models;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "scraped_page", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"url_hash"})
+})
+public class ScrapedPage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the normalized URL, hex encoded
+    @Column(name = "url_hash", nullable = false, length = 64)
+    private String urlHash;
+
+    @Column(name = "url", columnDefinition = "TEXT")
+    private String url;
+
+    @Column(name = "content", columnDefinition = "MEDIUMTEXT")
+    private String content;
+
+    @Column(name = "image_url", columnDefinition = "TEXT")
+    private String imageUrl;
+
+    @Column(name = "etag", length = 512)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    // When the page was last downloaded or confirmed unchanged by the publisher
+    @Column(name = "fetched_at")
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,10 @@
+package org.demo.models.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one ingest run: how many articles the external API returned, how many of them were
+ * new and stored, and the newest publication date among the returned ones (null if none)
+ */
+public record IngestResult(int fetchedCount, int insertedCount, LocalDateTime newestPublishedAt) {
+}
@@ -0,0 +1,45 @@
+package org.demo.models.dto;
+
+import org.demo.models.News;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor over (publishedAt, id), both descending. A cursor points just
+ * past the last article of the previous page.
+ */
+public record NewsCursor(LocalDateTime publishedAt, Long id) {
+
+    // Sorts before every stored article (MySQL DATETIME maximum), i.e. the start of the first page
+    public static final NewsCursor FIRST = new NewsCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static NewsCursor after(News news) {
+        return new NewsCursor(news.getPublishedAt(), news.getId());
+    }
+
+    public String encode() {
+        String raw = publishedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}; a missing cursor means the first page
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static NewsCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new NewsCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.demo.models.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA projection of the list-view columns of a news article. Queries returning it never read the
+ * TEXT content column.
+ */
+public interface NewsSummary {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getImageUrl();
+    String getCategory();
+    LocalDateTime getPublishedAt();
+}
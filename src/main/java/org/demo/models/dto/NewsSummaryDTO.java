@@ -0,0 +1,36 @@
+package org.demo.models.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "Summary of a news article for list views, without the full content")
+public class NewsSummaryDTO {
+    @Schema(description = "Unique identifier for the news article", example = "1")
+    private Long id;
+    @Schema(description = "Title of the news article", example = "Breaking News: Technology Update")
+    private String title;
+    @Schema(description = "Brief description of the news article", example = "This article covers the latest technology updates...")
+    private String description;
+    @Schema(description = "URL of the article's featured image", example = "https://example.com/images/article.jpg")
+    private String imageUrl;
+    @Schema(description = "Category of the news article", example = "technology", allowableValues = {"technology", "sports", "politics", "entertainment", "business", "health", "science"})
+    private String category;
+    @Schema(description = "Date and time when the article was originally published", example = "2025-10-03T10:30:00")
+    private LocalDateTime publishedAt;
+
+    public static NewsSummaryDTO from(NewsSummary summary) {
+        NewsSummaryDTO dto = new NewsSummaryDTO();
+        dto.setId(summary.getId());
+        dto.setTitle(summary.getTitle());
+        dto.setDescription(summary.getDescription());
+        dto.setImageUrl(summary.getImageUrl());
+        dto.setCategory(summary.getCategory());
+        dto.setPublishedAt(summary.getPublishedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,9 @@
+package org.demo.repositories;
+
+import org.demo.models.HostExtractionProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HostExtractionProfileRepository extends JpaRepository<HostExtractionProfile, String> {
+}
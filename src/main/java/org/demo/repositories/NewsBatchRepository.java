@@ -0,0 +1,18 @@
+package org.demo.repositories;
+
+import org.demo.models.News;
+
+import java.util.List;
+
+/**
+ * Bulk write operations on news that bypass the JPA persistence context
+ */
+public interface NewsBatchRepository {
+
+    /**
+     * Inserts the articles with a single JDBC batch. Rows whose fingerprint, the article's unique
+     * key, is already stored are skipped. Generated IDs are not written back; reload the rows by
+     * fingerprint, which also finds the stored article in place of a skipped one.
+     */
+    void insertAll(List<News> newsList);
+}
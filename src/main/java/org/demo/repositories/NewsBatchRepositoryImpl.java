@@ -0,0 +1,55 @@
+package org.demo.repositories;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.News;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link NewsBatchRepository}. News IDs use IDENTITY generation, which makes
+ * Hibernate insert row by row, so batches are written with plain JDBC instead. With
+ * {@code rewriteBatchedStatements} the driver sends each batch as one multi-row INSERT.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NewsBatchRepositoryImpl implements NewsBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO news " +
+            "(title, description, content, author, source_url, image_url, published_at, created_at, category, fingerprint) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<News> newsList) {
+        if (newsList.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // Entity callbacks do not run for JDBC writes, so apply what @PrePersist would have done
+        for (News news : newsList) {
+            news.setCreatedAt(now);
+            news.setCategory(News.normalizeCategory(news.getCategory()));
+            if (news.getFingerprint() == null) {
+                news.setFingerprint(News.fingerprintOf(news.getTitle(), news.getDescription()));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, newsList, newsList.size(), (ps, news) -> {
+            ps.setString(1, news.getTitle());
+            ps.setString(2, news.getDescription());
+            ps.setString(3, news.getContent());
+            ps.setString(4, news.getAuthor());
+            ps.setString(5, news.getSourceUrl());
+            ps.setString(6, news.getImageUrl());
+            ps.setTimestamp(7, news.getPublishedAt() != null ? Timestamp.valueOf(news.getPublishedAt()) : null);
+            ps.setTimestamp(8, Timestamp.valueOf(news.getCreatedAt()));
+            ps.setString(9, news.getCategory());
+            ps.setString(10, news.getFingerprint());
+        });
+        log.debug("Batch inserted {} news articles", newsList.size());
+    }
+}
@@ -1,18 +1,26 @@
 package org.demo.repositories;
 
 import org.demo.models.News;
+import org.demo.models.dto.NewsSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, NewsBatchRepository {
 
+    // List-view columns only, so summary queries never read the TEXT content column
+    String SUMMARY_SELECT = "SELECT n.id AS id, n.title AS title, n.description AS description, " +
+            "n.imageUrl AS imageUrl, n.category AS category, n.publishedAt AS publishedAt FROM News n ";
+    String NATIVE_SUMMARY_SELECT = "SELECT id AS id, title AS title, description AS description, " +
+            "image_url AS imageUrl, category AS category, published_at AS publishedAt FROM news ";
 
     @Query("SELECT n FROM News n WHERE " +
     "n.publishedAt BETWEEN :start AND :end ORDER BY n.publishedAt DESC")
@@ -20,17 +28,151 @@ public interface NewsRepository extends JpaRepository<News, Long> {
         LocalDateTime start, 
         LocalDateTime end
     );
+
+    // Keyset pages over (publishedAt, id) descending, backed by idx_news_published_at_id
+    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :start AND :end " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<News> findLatestNewsPage(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    // Category must be normalized with News.normalizeCategory; backed by idx_news_category_published_at
+    @Query("SELECT n FROM News n WHERE n.category = :category " +
+           "AND n.publishedAt BETWEEN :start AND :end " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<News> findLatestNewsPageByCategory(
+        @Param("category") String category,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
     
     @Query("SELECT n FROM News n WHERE " +
            "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(n.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY n.publishedAt DESC")
-    List<News> searchNews(@Param("keyword") String keyword);
+    List<News> searchNews(@Param("keyword") String keyword, Pageable pageable);
+
+    // Relevance ranked search backed by the ft_news_search FULLTEXT index, query in boolean mode syntax
+    @Query(value = "SELECT * FROM news WHERE " +
+           "MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) " +
+           "ORDER BY MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) DESC, published_at DESC",
+           nativeQuery = true)
+    List<News> fullTextSearch(@Param("query") String query, Pageable pageable);
+
+    // Newest-first keyset pages over FULLTEXT matches
+    @Query(value = "SELECT * FROM news WHERE " +
+           "MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) " +
+           "AND published_at <= :cursorPublishedAt " +
+           "AND (published_at < :cursorPublishedAt OR id < :cursorId) " +
+           "ORDER BY published_at DESC, id DESC",
+           nativeQuery = true)
+    List<News> fullTextSearchPage(
+        @Param("query") String query,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    @Query("SELECT n FROM News n WHERE (" +
+           "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<News> searchNewsPage(
+        @Param("keyword") String keyword,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
     
+    @Query(SUMMARY_SELECT + "WHERE n.publishedAt BETWEEN :start AND :end " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<NewsSummary> findLatestSummaryPage(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE n.category = :category " +
+           "AND n.publishedAt BETWEEN :start AND :end " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<NewsSummary> findLatestSummaryPageByCategory(
+        @Param("category") String category,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    @Query(value = NATIVE_SUMMARY_SELECT + "WHERE " +
+           "MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) " +
+           "ORDER BY MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) DESC, published_at DESC",
+           nativeQuery = true)
+    List<NewsSummary> fullTextSearchSummaries(@Param("query") String query, Pageable pageable);
+
+    @Query(value = NATIVE_SUMMARY_SELECT + "WHERE " +
+           "MATCH(title, description, content) AGAINST (:query IN BOOLEAN MODE) " +
+           "AND published_at <= :cursorPublishedAt " +
+           "AND (published_at < :cursorPublishedAt OR id < :cursorId) " +
+           "ORDER BY published_at DESC, id DESC",
+           nativeQuery = true)
+    List<NewsSummary> fullTextSearchSummaryPage(
+        @Param("query") String query,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY n.publishedAt DESC")
+    List<NewsSummary> searchNewsSummaries(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE (" +
+           "LOWER(n.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(n.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND n.publishedAt <= :cursorPublishedAt " +
+           "AND (n.publishedAt < :cursorPublishedAt OR n.id < :cursorId) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    List<NewsSummary> searchNewsSummaryPage(
+        @Param("keyword") String keyword,
+        @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
     @Query("SELECT DISTINCT n.category FROM News n WHERE n.category IS NOT NULL ORDER BY n.category")
     List<String> findAllDistinctCategories();
 
     int deleteByCreatedAtBefore(LocalDateTime date);
     Optional<News> findByTitleAndDescription(String title, String sourceUrl);
     boolean existsByTitleAndDescription(String title, String sourceUrl);
+
+    // Backed by idx_news_fingerprint; one round trip checks a whole fetch for duplicates
+    List<News> findByFingerprintIn(Collection<String> fingerprints);
+
+    @Query(SUMMARY_SELECT + "WHERE n.publishedAt >= :since")
+    List<NewsSummary> findSummariesPublishedSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
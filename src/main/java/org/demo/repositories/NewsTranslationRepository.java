@@ -0,0 +1,14 @@
+package org.demo.repositories;
+
+import org.demo.models.NewsTranslation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsTranslationRepository extends JpaRepository<NewsTranslation, Long> {
+
+    List<NewsTranslation> findBySourceHashInAndTargetLanguage(Collection<String> sourceHashes, String targetLanguage);
+}
@@ -0,0 +1,20 @@
+package org.demo.repositories;
+
+import org.demo.models.ScrapedPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ScrapedPageRepository extends JpaRepository<ScrapedPage, Long> {
+
+    Optional<ScrapedPage> findByUrlHash(String urlHash);
+
+    @Modifying
+    @Query("DELETE FROM ScrapedPage p WHERE p.fetchedAt < :date")
+    int deleteByFetchedAtBefore(LocalDateTime date);
+}
@@ -1,18 +1,32 @@
 package org.demo.services;
 
 import org.demo.models.News;
+import org.demo.models.dto.CursorPage;
+import org.demo.models.dto.IngestResult;
+import org.demo.models.dto.NewsCursor;
 import org.demo.models.dto.NewsDTO;
+import org.demo.models.dto.NewsSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface NewsService {
     News createNews(NewsDTO newsDTO);
     void deleteNews(Long id);
     void deleteAllNews();
-    List<News> searchNews(String keyword);
-    List<News> getDailyNews(String targetLanguage);
-    List<News> fetchNewsFromExternalApi(String query, String targetLanguage);
-    List<News> getLatestNewsByCategory(String category, String targetLanguage);
+    CursorPage<News> searchNews(String keyword, String sort, int page, int limit, NewsCursor cursor);
+    CursorPage<News> getDailyNews(String targetLanguage, int limit, NewsCursor cursor);
+    Mono<List<News>> fetchNewsFromExternalApiReactive(String query, String targetLanguage);
+    Flux<News> streamNewsFromExternalApi(String query, String targetLanguage);
+    IngestResult ingestNews(String query, String category, LocalDateTime publishedAfter);
+    CursorPage<News> getLatestNewsByCategory(String category, String targetLanguage, int limit, NewsCursor cursor);
+    CursorPage<NewsSummaryDTO> searchNewsSummaries(String keyword, String sort, int page, int limit, NewsCursor cursor);
+    CursorPage<NewsSummaryDTO> getDailyNewsSummaries(String targetLanguage, int limit, NewsCursor cursor);
+    CursorPage<NewsSummaryDTO> getLatestNewsSummariesByCategory(String category, String targetLanguage, int limit, NewsCursor cursor);
+    Optional<News> getNewsById(Long id, String targetLanguage);
 
     List<String> getAllCategories();
 }
\ No newline at end of file
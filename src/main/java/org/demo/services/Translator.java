@@ -0,0 +1,16 @@
+package org.demo.services;
+
+import java.util.List;
+
+/**
+ * Translation provider used by the translation service. The active implementation is selected with
+ * the {@code translation.provider} property.
+ */
+public interface Translator {
+    String translate(String text, String targetLanguage);
+
+    /**
+     * Translates several texts in one round trip. The result has the same size and order as the input.
+     */
+    List<String> translateAll(List<String> texts, String targetLanguage);
+}
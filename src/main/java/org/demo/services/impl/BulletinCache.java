@@ -0,0 +1,99 @@
+package org.demo.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of bulletin pages. Entries are dropped when a {@link NewsChangedEvent} reports
+ * a write to their category, so repeated bulletin reads are answered without touching the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulletinCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${news.bulletin.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.bulletin.cache.max-entries:2000}")
+    private long maxEntries;
+
+    @Value("${news.bulletin.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Cache<Key, CursorPage<?>> cache;
+
+    // Bumped on every invalidation, so that a page loaded before a write is not cached after it
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Identifies one bulletin page. A null category stands for the daily bulletin across all categories.
+     */
+    public record Key(String view, LocalDate day, String category, String language, int limit, String cursor) {
+
+        public static Key of(String view, String category, String language, int limit, String cursor) {
+            return new Key(view, LocalDate.now(), category,
+                    language == null ? "" : language.trim().toLowerCase(Locale.ROOT), limit, cursor);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "news.bulletin");
+    }
+
+    /**
+     * Returns the cached page for the key, loading and caching it on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CursorPage<T> get(Key key, Supplier<CursorPage<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CursorPage<T> cached = (CursorPage<T>) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        CursorPage<T> page = loader.get();
+        if (generation.get() == loadedGeneration) {
+            cache.put(key, page);
+        }
+        return page;
+    }
+
+    // After commit, so that a reload right after the invalidation sees the new rows
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.category() == null) {
+            cache.invalidateAll();
+            log.debug("Invalidated all cached bulletins");
+        } else {
+            cache.asMap().keySet().removeIf(key -> key.category() == null || key.category().equals(event.category()));
+            log.debug("Invalidated cached bulletins for category: {}", event.category());
+        }
+    }
+}
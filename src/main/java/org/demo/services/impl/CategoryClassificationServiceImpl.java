@@ -5,7 +5,6 @@ import org.demo.services.CategoryClassificationService;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -81,6 +80,29 @@ public class CategoryClassificationServiceImpl implements CategoryClassification
         ));
     }
 
+    // Categories in the iteration order of CATEGORY_KEYWORDS, which decides ties between equal scores
+    private static final String[] CATEGORIES;
+    private static final KeywordAutomaton KEYWORD_AUTOMATON;
+
+    static {
+        // Compile every keyword of every category into one automaton, built once
+        CATEGORIES = CATEGORY_KEYWORDS.keySet().toArray(new String[0]);
+        List<String> keywords = new ArrayList<>();
+        List<Integer> groups = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (int category = 0; category < CATEGORIES.length; category++) {
+            for (String keyword : CATEGORY_KEYWORDS.get(CATEGORIES[category])) {
+                keywords.add(keyword.toLowerCase());
+                groups.add(category);
+                // Give higher weight to longer, more specific keywords
+                weights.add(keyword.split("\\s+").length);
+            }
+        }
+        KEYWORD_AUTOMATON = new KeywordAutomaton(keywords,
+                groups.stream().mapToInt(Integer::intValue).toArray(),
+                weights.stream().mapToInt(Integer::intValue).toArray());
+    }
+
     @Override
     public String classifyNewsCategory(String title, String description, String content) {
         log.debug("Classifying news category for title: {}", title);
@@ -89,26 +111,23 @@ public class CategoryClassificationServiceImpl implements CategoryClassification
             // Combine all text content for analysis
             String combinedText = combineText(title, description, content).toLowerCase();
             
-            // Count keyword matches for each category
-            Map<String, Integer> categoryScores = new HashMap<>();
+            // Count keyword matches for all categories in a single pass
+            int[] categoryScores = new int[CATEGORIES.length];
+            KEYWORD_AUTOMATON.score(combinedText, categoryScores);
             
-            for (Map.Entry<String, List<String>> entry : CATEGORY_KEYWORDS.entrySet()) {
-                String category = entry.getKey();
-                List<String> keywords = entry.getValue();
-                
-                int score = calculateCategoryScore(combinedText, keywords);
-                if (score > 0) {
-                    categoryScores.put(category, score);
+            // Find the category with the highest score; on ties the first category wins
+            String bestCategory = DEFAULT_CATEGORY;
+            int bestScore = 0;
+            for (int category = 0; category < CATEGORIES.length; category++) {
+                if (categoryScores[category] > bestScore) {
+                    bestScore = categoryScores[category];
+                    bestCategory = CATEGORIES[category];
                 }
             }
             
-            // Find the category with the highest score
-            String bestCategory = categoryScores.entrySet().stream()
-                    .max(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
-                    .orElse(DEFAULT_CATEGORY);
-            
-            log.debug("Classified news as category: {} with scores: {}", bestCategory, categoryScores);
+            if (log.isDebugEnabled()) {
+                log.debug("Classified news as category: {} with scores: {}", bestCategory, describeScores(categoryScores));
+            }
             return bestCategory;
             
         } catch (Exception e) {
@@ -133,19 +152,13 @@ public class CategoryClassificationServiceImpl implements CategoryClassification
         return combined.toString();
     }
 
-    private int calculateCategoryScore(String text, List<String> keywords) {
-        int score = 0;
-        
-        for (String keyword : keywords) {
-            // Use word boundary regex to match whole words only
-            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(keyword.toLowerCase()) + "\\b");
-            long matches = pattern.matcher(text).results().count();
-            
-            // Give higher weight to longer, more specific keywords
-            int keywordWeight = keyword.split("\\s+").length;
-            score += matches * keywordWeight;
+    private Map<String, Integer> describeScores(int[] categoryScores) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (int category = 0; category < CATEGORIES.length; category++) {
+            if (categoryScores[category] > 0) {
+                scores.put(CATEGORIES[category], categoryScores[category]);
+            }
         }
-        
-        return score;
+        return scores;
     }
-} 
\ No newline at end of file
+}
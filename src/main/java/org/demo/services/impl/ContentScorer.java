@@ -0,0 +1,200 @@
+package org.demo.services.impl;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the main content block of a page by text and link density, in the manner of Readability:
+ * every paragraph of real prose scores its parent fully and its grandparent by half, blocks named
+ * like content gain and blocks named like navigation or comments lose, and the total is discounted
+ * by the share of the block's text that sits inside links.
+ */
+final class ContentScorer {
+
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+    private static final double MAX_LINK_DENSITY = 0.5;
+
+    private static final Set<String> PARAGRAPH_TAGS = Set.of("p", "pre");
+    private static final Set<String> SKIPPED_TAGS = Set.of("script", "style", "noscript", "nav", "aside", "footer",
+            "form", "iframe", "svg");
+
+    private static final Pattern UNLIKELY = Pattern.compile(
+            "banner|breadcrumb|combx|comment|community|cookie|disqus|footer|menu|modal|nav|newsletter|"
+                    + "popup|promo|related|remark|rss|share|shoutbox|sidebar|sponsor|subscribe|social|tags|tool");
+    private static final Pattern MAYBE_CANDIDATE = Pattern.compile("and|article|body|column|main|shadow");
+    private static final Pattern POSITIVE = Pattern.compile(
+            "article|body|content|entry|hentry|h-entry|main|page|post|story|text|blog");
+    private static final Pattern NEGATIVE = Pattern.compile(
+            "-ad-|hidden|^hid$| hid$| hid |^hid |advert|banner|combx|comment|com-|contact|footer|gdpr|masthead|media|"
+                    + "meta|outbrain|promo|related|scroll|share|shoutbox|sidebar|skyscraper|sponsor|shopping|tags|widget");
+    private static final Pattern VALID_TOKEN = Pattern.compile("-?[A-Za-z_][\\w-]*");
+    private static final Pattern GENERATED = Pattern.compile("\\d{3,}");
+
+    private ContentScorer() {
+    }
+
+    /**
+     * Returns the highest scoring block whose link density is acceptable, or null when the page
+     * has no paragraph of prose
+     */
+    static Element findMainContent(Document doc) {
+        Map<Element, Double> scores = new IdentityHashMap<>();
+        List<Element> paragraphs = new ArrayList<>();
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (!(node instanceof Element element)) {
+                    return FilterResult.CONTINUE;
+                }
+                if (SKIPPED_TAGS.contains(element.normalName()) || isUnlikely(element)) {
+                    return FilterResult.SKIP_ENTIRELY;
+                }
+                if (PARAGRAPH_TAGS.contains(element.normalName())) {
+                    paragraphs.add(element);
+                    return FilterResult.SKIP_CHILDREN;
+                }
+                return FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                return FilterResult.CONTINUE;
+            }
+        }, doc.body() != null ? doc.body() : doc);
+
+        for (Element paragraph : paragraphs) {
+            String text = paragraph.text();
+            if (text.length() < MIN_PARAGRAPH_LENGTH) {
+                continue;
+            }
+            double score = 1 + text.chars().filter(c -> c == ',').count() + Math.min(text.length() / 100, 3);
+            Element parent = paragraph.parent();
+            if (parent == null) {
+                continue;
+            }
+            addScore(scores, parent, score);
+            Element grandparent = parent.parent();
+            if (grandparent != null && !(grandparent instanceof Document)) {
+                addScore(scores, grandparent, score / 2);
+            }
+        }
+
+        Element best = null;
+        double bestScore = 0;
+        for (Map.Entry<Element, Double> candidate : scores.entrySet()) {
+            double linkDensity = linkDensity(candidate.getKey());
+            if (linkDensity > MAX_LINK_DENSITY) {
+                continue;
+            }
+            double score = candidate.getValue() * (1 - linkDensity);
+            if (score > bestScore) {
+                best = candidate.getKey();
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Share of the element's text that is link text
+     */
+    static double linkDensity(Element element) {
+        int textLength = element.text().length();
+        if (textLength == 0) {
+            return 0;
+        }
+        int linkLength = 0;
+        for (Element link : element.getElementsByTag("a")) {
+            linkLength += link.text().length();
+        }
+        return (double) linkLength / textLength;
+    }
+
+    /**
+     * Returns a selector that matches only this element in its document and is likely to match the
+     * same block on other pages of the site, or null when the element has no stable name
+     */
+    static String selectorOf(Element element) {
+        String tag = element.normalName();
+        if (tag.equals("body") || tag.equals("html")) {
+            return null;
+        }
+        Document doc = element.ownerDocument();
+        if (doc == null) {
+            return null;
+        }
+        if (isStableName(element.id())) {
+            String selector = "#" + element.id();
+            if (doc.select(selector).size() == 1) {
+                return selector;
+            }
+        }
+        StringBuilder selector = new StringBuilder(tag);
+        for (String className : element.classNames()) {
+            if (isStableName(className)) {
+                selector.append('.').append(className);
+            }
+        }
+        if (selector.length() == tag.length()) {
+            return null;
+        }
+        return doc.select(selector.toString()).size() == 1 ? selector.toString() : null;
+    }
+
+    private static boolean isStableName(String name) {
+        return VALID_TOKEN.matcher(name).matches() && !GENERATED.matcher(name).find();
+    }
+
+    private static void addScore(Map<Element, Double> scores, Element candidate, double score) {
+        scores.computeIfAbsent(candidate, ContentScorer::initialScore);
+        scores.merge(candidate, score, Double::sum);
+    }
+
+    private static double initialScore(Element element) {
+        double score = switch (element.normalName()) {
+            case "article" -> 10;
+            case "div" -> 5;
+            case "pre", "td", "blockquote" -> 3;
+            case "address", "ol", "ul", "dl", "dd", "dt", "li", "form" -> -3;
+            case "h1", "h2", "h3", "h4", "h5", "h6", "th" -> -5;
+            default -> 0;
+        };
+        return score + classWeight(element);
+    }
+
+    private static int classWeight(Element element) {
+        int weight = 0;
+        for (String name : new String[]{element.className(), element.id()}) {
+            if (name.isEmpty()) {
+                continue;
+            }
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (NEGATIVE.matcher(lower).find()) {
+                weight -= 25;
+            }
+            if (POSITIVE.matcher(lower).find()) {
+                weight += 25;
+            }
+        }
+        return weight;
+    }
+
+    private static boolean isUnlikely(Element element) {
+        if (element.normalName().equals("body") || element.normalName().equals("article")) {
+            return false;
+        }
+        String names = (element.className() + " " + element.id()).toLowerCase(Locale.ROOT);
+        return UNLIKELY.matcher(names).find() && !MAYBE_CANDIDATE.matcher(names).find();
+    }
+}
@@ -0,0 +1,104 @@
+package org.demo.services.impl;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A fixed list of simple CSS selectors compiled for evaluation in a single document traversal.
+ * Supported selectors are a tag name or a class, optionally preceded by one ancestor of either form
+ * ({@code "article p"}, {@code ".post-image img"}). Ancestor conditions are tracked with counters
+ * that are raised when the traversal enters a matching element and lowered when it leaves it, so
+ * testing an element against every selector costs a few comparisons.
+ */
+final class ExtractionPlan {
+
+    private final Step[] ancestors;
+    private final int[] ancestorOf;
+    private final Step[] targets;
+
+    /**
+     * A tag name or class condition on a single element, matched like jsoup's own evaluators
+     */
+    private record Step(String tag, String className) {
+
+        static Step parse(String token) {
+            if (token.startsWith(".")) {
+                return new Step(null, token.substring(1));
+            }
+            return new Step(token.toLowerCase(Locale.ROOT), null);
+        }
+
+        boolean matches(Element element) {
+            return tag != null ? element.normalName().equals(tag) : element.hasClass(className);
+        }
+    }
+
+    ExtractionPlan(List<String> selectors) {
+        Map<Step, Integer> ancestorIndex = new LinkedHashMap<>();
+        targets = new Step[selectors.size()];
+        ancestorOf = new int[selectors.size()];
+        for (int i = 0; i < selectors.size(); i++) {
+            String[] tokens = selectors.get(i).trim().split("\\s+");
+            if (tokens.length > 2 || tokens[0].isEmpty()) {
+                throw new IllegalArgumentException("Unsupported selector: " + selectors.get(i));
+            }
+            targets[i] = Step.parse(tokens[tokens.length - 1]);
+            ancestorOf[i] = tokens.length == 2
+                    ? ancestorIndex.computeIfAbsent(Step.parse(tokens[0]), step -> ancestorIndex.size())
+                    : -1;
+        }
+        ancestors = ancestorIndex.keySet().toArray(new Step[0]);
+    }
+
+    /**
+     * Returns, for every selector in plan order, the matching elements in document order, exactly
+     * as {@code root.select(selector)} would
+     */
+    List<List<Element>> match(Element root) {
+        List<List<Element>> matches = new ArrayList<>(targets.length);
+        for (int i = 0; i < targets.length; i++) {
+            matches.add(new ArrayList<>());
+        }
+        int[] open = new int[ancestors.length];
+
+        NodeTraversor.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (!(node instanceof Element element)) {
+                    return;
+                }
+                // Ancestor counters only cover the element's strict ancestors at this point
+                for (int i = 0; i < targets.length; i++) {
+                    if ((ancestorOf[i] < 0 || open[ancestorOf[i]] > 0) && targets[i].matches(element)) {
+                        matches.get(i).add(element);
+                    }
+                }
+                for (int a = 0; a < ancestors.length; a++) {
+                    if (ancestors[a].matches(element)) {
+                        open[a]++;
+                    }
+                }
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                if (node instanceof Element element) {
+                    for (int a = 0; a < ancestors.length; a++) {
+                        if (ancestors[a].matches(element)) {
+                            open[a]--;
+                        }
+                    }
+                }
+            }
+        }, root);
+        return matches;
+    }
+}
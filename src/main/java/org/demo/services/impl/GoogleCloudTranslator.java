@@ -0,0 +1,99 @@
+package org.demo.services.impl;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.translate.Translate;
+import com.google.cloud.translate.TranslateOptions;
+import com.google.cloud.translate.Translation;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.services.Translator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Google Cloud Translation backed translator. A single thread-safe {@link Translate} client is built
+ * at startup and shared by all callers; the credentials refresh their access token on demand.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "translation.provider", havingValue = "google", matchIfMissing = true)
+public class GoogleCloudTranslator implements Translator {
+
+    @Value("${google.cloud.project.id}")
+    private String projectId;
+
+    @Value("${translation.google.credentials:google-translate-credentials.json}")
+    private String credentialsResource;
+
+    private volatile Translate translate;
+
+    @PostConstruct
+    void init() {
+        try {
+            translate = createClient();
+            log.info("Google Translate client initialized for project {}", projectId);
+        } catch (IOException e) {
+            // Keep the application up; the client is created on first use instead
+            log.error("Error loading Google credentials, will retry on first translation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String translate(String text, String targetLanguage) {
+        try {
+            Translation translation = client().translate(
+                    text,
+                    Translate.TranslateOption.targetLanguage(targetLanguage)
+            );
+            return translation.getTranslatedText();
+        } catch (IOException e) {
+            throw new RuntimeException("Translation failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> translateAll(List<String> texts, String targetLanguage) {
+        try {
+            List<Translation> translations = client().translate(
+                    texts,
+                    Translate.TranslateOption.targetLanguage(targetLanguage)
+            );
+            return translations.stream()
+                    .map(Translation::getTranslatedText)
+                    .toList();
+        } catch (IOException e) {
+            throw new RuntimeException("Translation failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Translate client() throws IOException {
+        Translate client = translate;
+        if (client == null) {
+            synchronized (this) {
+                if (translate == null) {
+                    translate = createClient();
+                }
+                client = translate;
+            }
+        }
+        return client;
+    }
+
+    private Translate createClient() throws IOException {
+        try (InputStream credentialsStream = new ClassPathResource(credentialsResource).getInputStream()) {
+            GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsStream);
+
+            return TranslateOptions.newBuilder()
+                    .setProjectId(projectId)
+                    .setCredentials(credentials)
+                    .build()
+                    .getService();
+        }
+    }
+}
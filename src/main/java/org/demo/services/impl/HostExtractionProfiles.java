@@ -0,0 +1,135 @@
+package org.demo.services.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.HostExtractionProfile;
+import org.demo.repositories.HostExtractionProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers, per publisher host, which content selector extracted its last pages. Profiles are few
+ * and small, so all of them are kept in memory and the {@code host_extraction_profile} table is
+ * only written when a profile changes.
+ * <p>
+ * A profile is replaced once its selector has missed {@code web.scraper.profile.max-misses} pages
+ * in a row, which follows a publisher through a redesign without flapping on the odd gallery or
+ * live page.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HostExtractionProfiles {
+
+    private final HostExtractionProfileRepository profileRepository;
+    private final Scheduler dbScheduler;
+
+    @Value("${web.scraper.profile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${web.scraper.profile.max-misses:3}")
+    private int maxMisses;
+
+    private final Map<String, HostExtractionProfile> profiles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (HostExtractionProfile profile : profileRepository.findAll()) {
+                profiles.put(profile.getHost(), profile);
+            }
+            log.info("Loaded {} host extraction profiles", profiles.size());
+        } catch (Exception e) {
+            log.error("Error loading host extraction profiles: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the learned content selector for the page's host, or null
+     */
+    public String selectorFor(String url) {
+        if (!enabled) {
+            return null;
+        }
+        String host = hostOf(url);
+        HostExtractionProfile profile = host == null ? null : profiles.get(host);
+        return profile == null ? null : profile.getContentSelector();
+    }
+
+    /**
+     * Records the outcome of an extraction that was started with {@code learnedSelector}
+     *
+     * @param winningSelector the selector that produced the content, or null when none qualified
+     */
+    public Mono<Void> record(String url, String learnedSelector, String winningSelector) {
+        String host = hostOf(url);
+        if (!enabled || host == null || (learnedSelector == null && winningSelector == null)) {
+            return Mono.empty();
+        }
+        HostExtractionProfile profile;
+        synchronized (this) {
+            profile = profiles.get(host);
+            if (profile == null) {
+                if (winningSelector == null) {
+                    return Mono.empty();
+                }
+                profile = new HostExtractionProfile(host);
+                profile.setContentSelector(winningSelector);
+                log.debug("Learned content selector {} for host {}", winningSelector, host);
+            } else if (profile.getContentSelector().equals(winningSelector)) {
+                if (profile.getConsecutiveMisses() == 0) {
+                    return Mono.empty();
+                }
+                profile.setConsecutiveMisses(0);
+            } else if (profile.getConsecutiveMisses() + 1 < maxMisses) {
+                profile.setConsecutiveMisses(profile.getConsecutiveMisses() + 1);
+            } else if (winningSelector != null) {
+                log.debug("Content selector {} no longer matches host {}, switching to {}",
+                        profile.getContentSelector(), host, winningSelector);
+                profile.setContentSelector(winningSelector);
+                profile.setConsecutiveMisses(0);
+            } else {
+                log.debug("Content selector {} no longer matches host {}, forgetting it", profile.getContentSelector(), host);
+                profiles.remove(host);
+                return Mono.fromRunnable(() -> profileRepository.deleteById(host))
+                        .subscribeOn(dbScheduler)
+                        .onErrorResume(e -> {
+                            log.debug("Could not delete extraction profile of {}: {}", host, e.getMessage());
+                            return Mono.empty();
+                        })
+                        .then();
+            }
+            profile.setUpdatedAt(LocalDateTime.now());
+            profiles.put(host, profile);
+        }
+        HostExtractionProfile changed = profile;
+        return Mono.fromRunnable(() -> profileRepository.save(changed))
+                .subscribeOn(dbScheduler)
+                .onErrorResume(e -> {
+                    log.debug("Could not persist extraction profile of {}: {}", host, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host == null ? null : host.toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.demo.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-host circuit breaker and latency statistics of the scraper.
+ * <p>
+ * A host that fails {@code web.scraper.breaker.failure-threshold} requests in a row is skipped for
+ * {@code web.scraper.breaker.open-ms}; after that a single probe request decides whether it is
+ * closed again or skipped for twice as long, up to {@code web.scraper.breaker.max-open-ms}.
+ * <p>
+ * The deadline of a request is the host's recent latency percentile times a multiplier, kept
+ * between {@code web.scraper.adaptive-timeout.min-ms} and the global {@code web.scraper.timeout}.
+ * Hosts with too few samples get the global timeout.
+ */
+@Slf4j
+@Service
+public class HostHealthTracker {
+
+    @Value("${web.scraper.timeout:10000}")
+    private long maxTimeoutMs;
+
+    @Value("${web.scraper.adaptive-timeout.min-ms:2000}")
+    private long minTimeoutMs;
+
+    @Value("${web.scraper.adaptive-timeout.percentile:0.95}")
+    private double percentile;
+
+    @Value("${web.scraper.adaptive-timeout.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${web.scraper.adaptive-timeout.min-samples:10}")
+    private int minSamples;
+
+    @Value("${web.scraper.breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${web.scraper.breaker.open-ms:30000}")
+    private long openMs;
+
+    @Value("${web.scraper.breaker.max-open-ms:600000}")
+    private long maxOpenMs;
+
+    // Latencies kept per host for the percentile estimate
+    private static final int WINDOW = 100;
+
+    // Upper bounds of the exported latency histogram buckets
+    private static final long[] BUCKET_BOUNDS_MS = {100, 250, 500, 1000, 2000, 4000, 8000, 16000};
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final Map<String, HostHealth> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a request to the host of the URL may start. While the host's breaker is half open
+     * only one probe request is let through.
+     */
+    public boolean tryAcquire(String url) {
+        return health(url).tryAcquire(System.currentTimeMillis());
+    }
+
+    /**
+     * Whether the host's breaker is currently rejecting requests; used to stop retrying
+     */
+    public boolean isOpen(String url) {
+        return health(url).state == State.OPEN;
+    }
+
+    /**
+     * Returns the deadline for the next request to the host of the URL
+     */
+    public Duration timeoutFor(String url) {
+        return Duration.ofMillis(health(url).timeoutMs());
+    }
+
+    /**
+     * Records a request that got an answer from the host, whatever its status
+     */
+    public void recordSuccess(String url, long latencyMs) {
+        health(url).recordSuccess(latencyMs);
+    }
+
+    /**
+     * Records a request that timed out, could not connect or got a server error
+     *
+     * @param latencyMs time until the timeout or the error answer, or -1 when the connection itself failed
+     */
+    public void recordFailure(String url, long latencyMs) {
+        String host = HostRateLimiter.hostOf(url);
+        HostHealth health = hosts.computeIfAbsent(host, h -> new HostHealth());
+        if (health.recordFailure(latencyMs, System.currentTimeMillis())) {
+            log.warn("Host {} failed {} requests in a row, skipping it until {}", host,
+                    health.consecutiveFailures, Instant.ofEpochMilli(health.openUntilMs));
+        }
+    }
+
+    /**
+     * Breaker state and latency statistics of every host contacted so far, by host name
+     */
+    public Map<String, HostSnapshot> snapshot() {
+        Map<String, HostSnapshot> snapshot = new TreeMap<>();
+        hosts.forEach((host, health) -> snapshot.put(host, health.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Breaker state and latency statistics of one host, or null when it has not been contacted
+     */
+    public HostSnapshot snapshot(String host) {
+        HostHealth health = hosts.get(host.toLowerCase());
+        return health == null ? null : health.snapshot();
+    }
+
+    public record HostSnapshot(State state, int consecutiveFailures, Instant openUntil, long timeoutMs,
+                               long successes, long failures, Long p50Ms, Long p95Ms, Long p99Ms,
+                               Map<String, Long> latencyHistogram) {
+    }
+
+    private HostHealth health(String url) {
+        return hosts.computeIfAbsent(HostRateLimiter.hostOf(url), h -> new HostHealth());
+    }
+
+    private final class HostHealth {
+        private volatile State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openUntilMs;
+        private long currentOpenMs = openMs;
+        private long probeStartedMs;
+        private final long[] window = new long[WINDOW];
+        private int windowSize;
+        private int windowNext;
+        private final long[] buckets = new long[BUCKET_BOUNDS_MS.length + 1];
+        private long successes;
+        private long failures;
+
+        synchronized boolean tryAcquire(long now) {
+            if (state == State.OPEN && now >= openUntilMs) {
+                state = State.HALF_OPEN;
+                probeStartedMs = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                // A probe that never reported back, e.g. because it was cancelled, is replaced
+                if (probeStartedMs != 0 && now - probeStartedMs < 2 * maxTimeoutMs) {
+                    return false;
+                }
+                probeStartedMs = now;
+                return true;
+            }
+            return state == State.CLOSED;
+        }
+
+        synchronized void recordSuccess(long latencyMs) {
+            successes++;
+            addSample(latencyMs);
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                state = State.CLOSED;
+                currentOpenMs = openMs;
+            }
+        }
+
+        /**
+         * @return true when this failure opened the breaker
+         */
+        synchronized boolean recordFailure(long latencyMs, long now) {
+            failures++;
+            if (latencyMs >= 0) {
+                addSample(latencyMs);
+            }
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN) {
+                currentOpenMs = Math.min(maxOpenMs, currentOpenMs * 2);
+            } else if (state == State.OPEN || consecutiveFailures < failureThreshold) {
+                return false;
+            }
+            state = State.OPEN;
+            openUntilMs = now + currentOpenMs;
+            return true;
+        }
+
+        synchronized long timeoutMs() {
+            if (windowSize < minSamples) {
+                return maxTimeoutMs;
+            }
+            long adaptive = (long) (latencyAt(percentile) * multiplier);
+            return Math.max(minTimeoutMs, Math.min(maxTimeoutMs, adaptive));
+        }
+
+        synchronized HostSnapshot snapshot() {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                histogram.put("le_" + BUCKET_BOUNDS_MS[i] + "ms", buckets[i]);
+            }
+            histogram.put("gt_" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms", buckets[BUCKET_BOUNDS_MS.length]);
+            boolean sampled = windowSize > 0;
+            return new HostSnapshot(state, consecutiveFailures,
+                    state == State.CLOSED ? null : Instant.ofEpochMilli(openUntilMs), timeoutMs(),
+                    successes, failures,
+                    sampled ? latencyAt(0.5) : null, sampled ? latencyAt(0.95) : null, sampled ? latencyAt(0.99) : null,
+                    histogram);
+        }
+
+        private void addSample(long latencyMs) {
+            window[windowNext] = latencyMs;
+            windowNext = (windowNext + 1) % WINDOW;
+            windowSize = Math.min(WINDOW, windowSize + 1);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && latencyMs > BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+        }
+
+        private long latencyAt(double p) {
+            long[] sorted = Arrays.copyOf(window, windowSize);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, Math.min(windowSize - 1, (int) Math.ceil(p * windowSize) - 1))];
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.demo.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-host politeness scheduler for the scraper. Every source host gets its own token bucket and
+ * a cap on concurrent requests, so different publishers are contacted fully in parallel while a
+ * slow or rate-limiting host is paced on its own.
+ */
+@Slf4j
+@Service
+public class HostRateLimiter {
+
+    @Value("${web.scraper.host.requests-per-second:2.0}")
+    private double requestsPerSecond;
+
+    @Value("${web.scraper.host.burst:2}")
+    private int burst;
+
+    @Value("${web.scraper.host.max-in-flight:2}")
+    private int maxInFlight;
+
+    @Value("${web.scraper.host.max-retry-after-ms:60000}")
+    private long maxRetryAfterMs;
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Waits for an in-flight slot and a token of the URL's host without blocking. A caller that finds
+     * the host busy is queued and handed the slot of the next request that completes, then waits for
+     * the host's next token on a single timer. The permit must be closed once the request has
+     * completed.
+     */
+    public Mono<Permit> acquireAsync(String url) {
+        String host = hostOf(url);
+        HostState state = hosts.computeIfAbsent(host, h -> new HostState());
+
+        return Mono.<Permit>create(state::enqueue)
+                // A slot handed to a caller that cancelled meanwhile goes to the next one
+                .doOnDiscard(Permit.class, Permit::close)
+                .flatMap(permit -> {
+                    long waitNanos = state.reserve(System.nanoTime());
+                    if (waitNanos <= 0) {
+                        return Mono.just(permit);
+                    }
+                    log.trace("Waiting {} ms before contacting host {}", TimeUnit.NANOSECONDS.toMillis(waitNanos), host);
+                    return Mono.delay(Duration.ofNanos(waitNanos))
+                            // The host may have asked for a pause while we were waiting
+                            .then(Mono.defer(() -> {
+                                long pauseNanos = state.remainingPause(System.nanoTime());
+                                return pauseNanos > 0 ? Mono.delay(Duration.ofNanos(pauseNanos)).then() : Mono.<Void>empty();
+                            }))
+                            .thenReturn(permit)
+                            .doOnCancel(permit::close);
+                });
+    }
+
+    /**
+     * Records a 429/503 answer from the host of the given URL. All further requests to that host are
+     * held back until the {@code Retry-After} delay has elapsed, but never for longer than
+     * {@code web.scraper.host.max-retry-after-ms}: later requests wait while holding an in-flight
+     * slot, so a day-long hint must not stall everything queued for the host.
+     *
+     * @return false if the host asked for a pause longer than we are willing to wait
+     */
+    public boolean backOff(String url, String retryAfterHeader) {
+        String host = hostOf(url);
+        Duration retryAfter = parseRetryAfter(retryAfterHeader);
+        if (retryAfter == null) {
+            // No usable hint from the server: pause the host for one refill interval per burst token
+            retryAfter = Duration.ofMillis((long) (1000 * Math.max(1, burst) / requestsPerSecond));
+        }
+        Duration pause = retryAfter.toMillis() <= maxRetryAfterMs ? retryAfter : Duration.ofMillis(maxRetryAfterMs);
+        log.warn("Host {} is rate limiting us, pausing it for {} ms", host, pause.toMillis());
+        hosts.computeIfAbsent(host, h -> new HostState())
+                .pauseUntil(System.nanoTime() + pause.toNanos());
+        return retryAfter.toMillis() <= maxRetryAfterMs;
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delta-seconds or as an HTTP date.
+     */
+    static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try the HTTP-date form
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (Exception e) {
+            log.debug("Ignoring unparseable Retry-After header: {}", value);
+            return null;
+        }
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase() : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * A granted in-flight slot for one host.
+     */
+    public static final class Permit implements AutoCloseable {
+        private final HostState state;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(HostState state) {
+            this.state = state;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                state.release();
+            }
+        }
+    }
+
+    private final class HostState {
+        private final Semaphore inFlight = new Semaphore(Math.max(1, maxInFlight));
+        private double tokens = Math.max(1, burst);
+        private long lastRefillNanos = System.nanoTime();
+        private long pausedUntilNanos = lastRefillNanos;
+        // Non-blocking callers waiting for an in-flight slot, in arrival order
+        private final Queue<MonoSink<Permit>> waiters = new ArrayDeque<>();
+
+        /**
+         * Grants a free in-flight slot right away, or queues the caller until a request completes
+         */
+        void enqueue(MonoSink<Permit> sink) {
+            synchronized (waiters) {
+                if (waiters.isEmpty() && inFlight.tryAcquire()) {
+                    sink.success(new Permit(this));
+                    return;
+                }
+                waiters.add(sink);
+            }
+            sink.onCancel(() -> {
+                synchronized (waiters) {
+                    waiters.remove(sink);
+                }
+            });
+        }
+
+        /**
+         * Hands a completed request's slot to the longest waiting caller, or frees it
+         */
+        void release() {
+            MonoSink<Permit> next;
+            synchronized (waiters) {
+                next = waiters.poll();
+                if (next == null) {
+                    inFlight.release();
+                    return;
+                }
+            }
+            next.success(new Permit(this));
+        }
+
+        /**
+         * Takes one token and returns how long the caller has to wait for it. The bucket may go into
+         * debt, which queues callers behind each other at the configured rate.
+         */
+        synchronized long reserve(long now) {
+            double refill = (now - lastRefillNanos) / 1_000_000_000d * requestsPerSecond;
+            tokens = Math.min(Math.max(1, burst), tokens + refill);
+            lastRefillNanos = now;
+            tokens -= 1;
+
+            long tokenWait = tokens >= 0 ? 0 : (long) (-tokens / requestsPerSecond * 1_000_000_000d);
+            return Math.max(tokenWait, pausedUntilNanos - now);
+        }
+
+        synchronized long remainingPause(long now) {
+            return pausedUntilNanos - now;
+        }
+
+        synchronized void pauseUntil(long untilNanos) {
+            if (untilNanos - pausedUntilNanos > 0) {
+                pausedUntilNanos = untilNanos;
+            }
+        }
+    }
+}
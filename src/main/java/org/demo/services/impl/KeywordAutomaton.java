@@ -0,0 +1,215 @@
+package org.demo.services.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Aho-Corasick automaton over a fixed keyword list that scores whole-word keyword occurrences in a
+ * single linear scan of the text. A keyword occurrence only counts when it is delimited by word
+ * boundaries exactly as {@code \b} in {@link java.util.regex.Pattern} defines them on the running JDK,
+ * and repeated occurrences of one keyword never overlap, as with {@code Matcher.find()}.
+ */
+final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    // Regex word-boundary semantics changed in JDK 19 (ASCII-only by default), so probe the running JDK
+    private static final boolean ASCII_WORD_BOUNDARIES =
+            Pattern.compile("\\bai\\b").matcher("ai\u00e9").find();
+    private static final boolean NON_SPACING_MARKS_JOIN_WORDS =
+            !Pattern.compile("\\bai\\b").matcher("ai\u0301").find();
+
+    private final int[] charClass = new int[128];
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private final int[] keywordLength;
+    private final int[] keywordGroup;
+    private final int[] keywordWeight;
+    private final boolean[] keywordSelfOverlaps;
+    private final boolean anySelfOverlaps;
+
+    /**
+     * @param keywords lowercase keywords made of ASCII characters, starting and ending with a letter or digit
+     * @param groups   the score slot each keyword contributes to
+     * @param weights  the amount added to the slot per occurrence
+     */
+    KeywordAutomaton(List<String> keywords, int[] groups, int[] weights) {
+        int count = keywords.size();
+        keywordLength = new int[count];
+        keywordGroup = groups.clone();
+        keywordWeight = weights.clone();
+        keywordSelfOverlaps = new boolean[count];
+
+        Arrays.fill(charClass, -1);
+        int classes = 0;
+        for (String keyword : keywords) {
+            if (keyword.isEmpty() || !isWord(keyword.charAt(0)) || !isWord(keyword.charAt(keyword.length() - 1))) {
+                throw new IllegalArgumentException("Keyword must start and end with a word character: " + keyword);
+            }
+            for (int i = 0; i < keyword.length(); i++) {
+                char ch = keyword.charAt(i);
+                if (ch >= 128) {
+                    throw new IllegalArgumentException("Keyword must be ASCII: " + keyword);
+                }
+                if (charClass[ch] < 0) {
+                    charClass[ch] = classes++;
+                }
+            }
+        }
+        alphabetSize = classes;
+
+        // Build the keyword trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        trie.add(newRow());
+        matches.add(new ArrayList<>());
+        boolean overlaps = false;
+        for (int k = 0; k < count; k++) {
+            String keyword = keywords.get(k);
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = charClass[keyword.charAt(i)];
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newRow());
+                    matches.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            matches.get(state).add(k);
+            keywordLength[k] = keyword.length();
+            keywordSelfOverlaps[k] = hasBorder(keyword);
+            overlaps |= keywordSelfOverlaps[k];
+        }
+        anySelfOverlaps = overlaps;
+
+        // Breadth-first pass: failure links, merged outputs and the complete transition table
+        int states = trie.size();
+        int[] fail = new int[states];
+        transitions = new int[states * alphabetSize];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabetSize; c++) {
+            int next = trie.get(ROOT)[c];
+            if (next < 0) {
+                transitions[c] = ROOT;
+            } else {
+                transitions[c] = next;
+                fail[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches.get(state).addAll(matches.get(fail[state]));
+            for (int c = 0; c < alphabetSize; c++) {
+                int next = trie.get(state)[c];
+                int fallback = transitions[fail[state] * alphabetSize + c];
+                if (next < 0) {
+                    transitions[state * alphabetSize + c] = fallback;
+                } else {
+                    transitions[state * alphabetSize + c] = next;
+                    fail[next] = fallback;
+                    queue.add(next);
+                }
+            }
+        }
+
+        outputs = new int[states][];
+        for (int s = 0; s < states; s++) {
+            outputs[s] = matches.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Adds the weighted whole-word keyword occurrences found in the text to the score slots
+     */
+    void score(CharSequence text, int[] scores) {
+        int[] lastMatchEnd = anySelfOverlaps ? new int[keywordLength.length] : null;
+        int length = text.length();
+        int state = ROOT;
+
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            int c = ch < 128 ? charClass[ch] : -1;
+            if (c < 0) {
+                // No keyword contains this character
+                state = ROOT;
+                continue;
+            }
+            state = transitions[state * alphabetSize + c];
+
+            for (int k : outputs[state]) {
+                int start = i + 1 - keywordLength[k];
+                if (isWordBefore(text, start) || isWordAt(text, i + 1)) {
+                    continue;
+                }
+                if (lastMatchEnd != null && keywordSelfOverlaps[k]) {
+                    if (start < lastMatchEnd[k]) {
+                        continue;
+                    }
+                    lastMatchEnd[k] = i + 1;
+                }
+                scores[keywordGroup[k]] += keywordWeight[k];
+            }
+        }
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static boolean hasBorder(String keyword) {
+        for (int length = 1; length < keyword.length(); length++) {
+            if (keyword.startsWith(keyword.substring(keyword.length() - length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWord(int ch) {
+        if (ASCII_WORD_BOUNDARIES && ch >= 128) {
+            return false;
+        }
+        return ch == '_' || Character.isLetterOrDigit(ch);
+    }
+
+    private static boolean isWordBefore(CharSequence text, int index) {
+        if (index <= 0) {
+            return false;
+        }
+        int ch = Character.codePointBefore(text, index);
+        return isWord(ch) || (NON_SPACING_MARKS_JOIN_WORDS
+                && Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(text, index - 1));
+    }
+
+    private static boolean isWordAt(CharSequence text, int index) {
+        if (index >= text.length()) {
+            return false;
+        }
+        int ch = Character.codePointAt(text, index);
+        return isWord(ch) || (NON_SPACING_MARKS_JOIN_WORDS
+                && Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(text, index));
+    }
+
+    private static boolean hasBaseCharacter(CharSequence text, int index) {
+        for (int x = index; x >= 0; x--) {
+            int ch = Character.codePointAt(text, x);
+            if (Character.isLetterOrDigit(ch)) {
+                return true;
+            }
+            if (Character.getType(ch) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,212 @@
+package org.demo.services.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.dto.NewsSummary;
+import org.demo.repositories.NewsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory locality-sensitive index of the MinHash signatures of stored articles. Signatures are
+ * cut into {@value #BANDS} bands; articles sharing any band are compared, which finds pairs above
+ * a Jaccard similarity of about 0.7 with high probability while unrelated articles are rarely
+ * looked at.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearDuplicateIndex {
+
+    static final int BANDS = 16;
+    private static final int ROWS = MinHash.SIGNATURE_LENGTH / BANDS;
+
+    private final NewsRepository newsRepository;
+
+    @Value("${news.dedup.near.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.dedup.near.similarity-threshold:0.7}")
+    private double similarityThreshold;
+
+    @Value("${news.dedup.near.min-words:8}")
+    private int minWords;
+
+    @Value("${news.dedup.near.window-days:7}")
+    private int windowDays;
+
+    private volatile Index index = new Index();
+
+    // Articles added or deleted while a rebuild is loading, replayed into the new index once it is swapped in
+    private volatile Map<Long, int[]> addedDuringRebuild;
+    private volatile Set<Long> deletedDuringRebuild;
+
+    /**
+     * Band buckets and signatures of the indexed articles. A rebuild fills a new instance and swaps
+     * it in, so lookups never see a half-loaded index.
+     */
+    private static final class Index {
+        // Band key to the IDs of the articles in that bucket
+        private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+        private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+
+        void add(Long id, int[] signature) {
+            signatures.put(id, signature);
+            for (int band = 0; band < BANDS; band++) {
+                // Inside compute, so a concurrent remove cannot drop the bucket while the ID is added
+                buckets.compute(bandKey(signature, band), (key, ids) -> {
+                    Set<Long> bucket = ids != null ? ids : ConcurrentHashMap.<Long>newKeySet();
+                    bucket.add(id);
+                    return bucket;
+                });
+            }
+        }
+
+        void remove(Long id) {
+            int[] signature = signatures.remove(id);
+            if (signature == null) {
+                return;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                buckets.computeIfPresent(bandKey(signature, band), (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the signature of the article text, or null when it has too few words for a reliable one
+     */
+    public int[] signatureOf(String title, String description) {
+        if (!enabled) {
+            return null;
+        }
+        Set<String> words = MinHash.words(Objects.toString(title, "") + " " + Objects.toString(description, ""));
+        return words.size() < minWords ? null : MinHash.signature(words);
+    }
+
+    /**
+     * Returns the ID of the most similar indexed article above the threshold, or null
+     */
+    public Long findNearDuplicate(int[] signature) {
+        Index current = index;
+        Long closestId = null;
+        double closestSimilarity = 0;
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> candidates = current.buckets.get(bandKey(signature, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (Long id : candidates) {
+                int[] candidate = current.signatures.get(id);
+                if (candidate == null) {
+                    continue;
+                }
+                double similarity = MinHash.similarity(signature, candidate);
+                if (similarity >= similarityThreshold && similarity > closestSimilarity) {
+                    closestId = id;
+                    closestSimilarity = similarity;
+                }
+            }
+        }
+        return closestId;
+    }
+
+    /**
+     * Whether two signatures are similar enough to count as the same story
+     */
+    public boolean isNearDuplicate(int[] a, int[] b) {
+        return MinHash.similarity(a, b) >= similarityThreshold;
+    }
+
+    public void add(Long id, int[] signature) {
+        if (!enabled || id == null || signature == null) {
+            return;
+        }
+        index.add(id, signature);
+        Map<Long, int[]> pending = addedDuringRebuild;
+        if (pending != null) {
+            pending.put(id, signature);
+        }
+    }
+
+    /**
+     * Deleted articles are dropped from the index one by one; after deletions that do not say which
+     * articles they removed, the index is reloaded
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.deletedIds() == null) {
+            rebuild();
+        } else {
+            event.deletedIds().forEach(index::remove);
+            Set<Long> pending = deletedDuringRebuild;
+            if (pending != null) {
+                pending.addAll(event.deletedIds());
+            }
+        }
+    }
+
+    /**
+     * Articles age out of the loaded window; a nightly reload drops them
+     */
+    @Scheduled(cron = "${news.dedup.near.rebuild-cron:0 30 0 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    synchronized void rebuild() {
+        try {
+            addedDuringRebuild = new ConcurrentHashMap<>();
+            deletedDuringRebuild = ConcurrentHashMap.newKeySet();
+            Index fresh = new Index();
+            for (NewsSummary stored : newsRepository.findSummariesPublishedSince(LocalDateTime.now().minusDays(windowDays))) {
+                int[] signature = signatureOf(stored.getTitle(), stored.getDescription());
+                if (signature != null) {
+                    fresh.add(stored.getId(), signature);
+                }
+            }
+            index = fresh;
+            addedDuringRebuild.forEach(fresh::add);
+            deletedDuringRebuild.forEach(fresh::remove);
+            log.info("Loaded {} article signatures of the last {} days into the near-duplicate index",
+                    fresh.signatures.size(), windowDays);
+        } catch (Exception e) {
+            log.error("Error loading article signatures: {}", e.getMessage(), e);
+        } finally {
+            addedDuringRebuild = null;
+            deletedDuringRebuild = null;
+        }
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x100000001b3L + signature[row];
+        }
+        return key;
+    }
+}
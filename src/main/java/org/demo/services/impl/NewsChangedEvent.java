@@ -0,0 +1,22 @@
+package org.demo.services.impl;
+
+import java.util.Set;
+
+/**
+ * Published after news articles are written or deleted. A null category means that any category
+ * may have been affected; null deleted IDs mean that articles were deleted without tracking which.
+ */
+public record NewsChangedEvent(String category, Set<Long> deletedIds) {
+
+    public NewsChangedEvent(String category) {
+        this(category, Set.of());
+    }
+
+    public static NewsChangedEvent anyCategory() {
+        return new NewsChangedEvent(null, null);
+    }
+
+    public static NewsChangedEvent deleted(Long id) {
+        return new NewsChangedEvent(null, Set.of(id));
+    }
+}
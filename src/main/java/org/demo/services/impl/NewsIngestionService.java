@@ -0,0 +1,82 @@
+package org.demo.services.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.IngestionState;
+import org.demo.models.dto.IngestResult;
+import org.demo.repositories.IngestionStateRepository;
+import org.demo.services.NewsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pulls news from the external API in the background, so that articles are scraped, classified
+ * and stored off the request path. Every configured query and category is polled on a fixed delay;
+ * the newest publication date seen per source is persisted and older items are not ingested again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsIngestionService {
+
+    private static final String QUERY_PREFIX = "q:";
+    private static final String CATEGORY_PREFIX = "category:";
+
+    private final NewsService newsService;
+    private final IngestionStateRepository ingestionStateRepository;
+
+    @Value("${news.ingestion.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.ingestion.queries:}")
+    private String[] queries;
+
+    @Value("${news.ingestion.categories:}")
+    private String[] categories;
+
+    @Scheduled(initialDelayString = "${news.ingestion.initial-delay-ms:60000}",
+            fixedDelayString = "${news.ingestion.interval-ms:1800000}")
+    public void ingestConfiguredSources() {
+        if (!enabled) {
+            return;
+        }
+        log.info("Starting scheduled news ingestion");
+        int total = 0;
+        for (String query : queries) {
+            if (!query.isBlank()) {
+                total += ingestSource(QUERY_PREFIX + query.trim(), query.trim(), null);
+            }
+        }
+        for (String category : categories) {
+            if (!category.isBlank()) {
+                total += ingestSource(CATEGORY_PREFIX + category.trim(), null, category.trim());
+            }
+        }
+        log.info("Scheduled news ingestion finished, {} new items stored", total);
+    }
+
+    private int ingestSource(String sourceKey, String query, String category) {
+        try {
+            IngestionState state = ingestionStateRepository.findById(sourceKey)
+                    .orElseGet(() -> new IngestionState(sourceKey));
+
+            IngestResult result = newsService.ingestNews(query, category, state.getLastPublishedAt());
+            if (result.newestPublishedAt() != null) {
+                state.setLastPublishedAt(result.newestPublishedAt());
+            }
+            state.setLastRunAt(LocalDateTime.now());
+            state.setLastIngestedCount(result.insertedCount());
+            ingestionStateRepository.save(state);
+
+            log.debug("Ingested {} new of {} fetched items for source {}", result.insertedCount(), result.fetchedCount(), sourceKey);
+            return result.insertedCount();
+        } catch (Exception e) {
+            // One failing source must not stop the others
+            log.error("Error ingesting news for source {}: {}", sourceKey, e.getMessage(), e);
+            return 0;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.demo.services.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.demo.repositories.NewsRepository;
+import org.demo.repositories.ScrapedPageRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,8 @@ import java.time.LocalDateTime;
 public class NewsSchedulerService {
 
     private final NewsRepository newsRepository;
+    private final ScrapedPageRepository scrapedPageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 0 0 * * *") // Runs at midnight every day
     @Transactional
@@ -24,6 +28,11 @@ public class NewsSchedulerService {
             LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
             int deletedCount = newsRepository.deleteByCreatedAtBefore(thirtyDaysAgo);
             log.info("Successfully deleted {} news items older than 30 days", deletedCount);
+            if (deletedCount > 0) {
+                eventPublisher.publishEvent(NewsChangedEvent.anyCategory());
+            }
+            int deletedPages = scrapedPageRepository.deleteByFetchedAtBefore(thirtyDaysAgo);
+            log.info("Deleted {} scraped pages not fetched in 30 days", deletedPages);
         } catch (Exception e) {
             log.error("Error during scheduled deletion of old news: {}", e.getMessage(), e);
             throw e;
@@ -1,20 +1,49 @@
 package org.demo.services.impl;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.demo.models.News;
+import org.demo.models.dto.CursorPage;
+import org.demo.models.dto.IngestResult;
+import org.demo.models.dto.NewsCursor;
 import org.demo.models.dto.NewsDTO;
+import org.demo.models.dto.NewsSummary;
+import org.demo.models.dto.NewsSummaryDTO;
 import org.demo.repositories.NewsRepository;
 import org.demo.services.CategoryClassificationService;
 import org.demo.services.NewsService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -26,6 +55,12 @@ public class NewsServiceImpl implements NewsService {
     private final TranslationService translationService;
     private final CategoryClassificationService categoryClassificationService;
     private final WebScraperService webScraperService;
+    private final PreTranslationService preTranslationService;
+    private final BulletinCache bulletinCache;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Scheduler dbScheduler;
+    private final MeterRegistry meterRegistry;
     
     @Value("${news.api.key}")
     private String apiKey;
@@ -33,13 +68,79 @@ public class NewsServiceImpl implements NewsService {
     @Value("${news.api.base-url}")
     private String baseUrl;
 
+    @Value("${news.enrichment.concurrency:8}")
+    private int enrichmentConcurrency;
+
+    @Value("${news.ingestion.max-pages:5}")
+    private int ingestionMaxPages;
+
+    @Value("${news.search.fulltext.enabled:true}")
+    private boolean fullTextSearchEnabled;
+
+    @Value("${news.search.fulltext.min-token-length:3}")
+    private int fullTextMinTokenLength;
+
+    @Value("${news.stream.batch-size:10}")
+    private int streamBatchSize;
+
+    @Value("${news.stream.flush-ms:250}")
+    private long streamFlushMs;
+
+    private Timer classifyTimer;
+    private Timer dbSaveTimer;
+    private Counter dedupCheckedCounter;
+    private Counter exactDuplicateCounter;
+    private Counter nearDuplicateCounter;
+    private Counter batchDuplicateCounter;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String SORT_RECENT = "recent";
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final Pattern SEARCH_TERM = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+
+    @PostConstruct
+    void initMetrics() {
+        classifyTimer = Timer.builder("news.classify.duration")
+                .description("Keyword classification of one article")
+                .register(meterRegistry);
+        dbSaveTimer = Timer.builder("news.db.save.duration")
+                .description("Batch insert of new articles and loading them back")
+                .register(meterRegistry);
+        dedupCheckedCounter = meterRegistry.counter("news.dedup.checked");
+        exactDuplicateCounter = meterRegistry.counter("news.dedup.duplicates", "kind", "exact");
+        nearDuplicateCounter = meterRegistry.counter("news.dedup.duplicates", "kind", "near");
+        batchDuplicateCounter = meterRegistry.counter("news.dedup.duplicates", "kind", "batch");
+    }
 
     @Override
-    public List<News> searchNews(String keyword) {
-        log.debug("Searching news with keyword: {}", keyword);
+    public CursorPage<News> searchNews(String keyword, String sort, int page, int limit, NewsCursor cursor) {
+        log.debug("Searching news with keyword: {} (sort {}, page {}, limit {})", keyword, sort, page, limit);
         try {
-            List<News> results = newsRepository.searchNews(keyword);
-            log.debug("Found {} news items matching keyword: {}", results.size(), keyword);
+            String fullTextQuery = fullTextSearchEnabled ? toFullTextQuery(keyword) : null;
+            if (fullTextQuery != null) {
+                log.debug("Using FULLTEXT search with query: {}", fullTextQuery);
+            }
+
+            CursorPage<News> results;
+            if (SORT_RECENT.equalsIgnoreCase(sort)) {
+                // Newest first, keyset paginated
+                Pageable pageable = PageRequest.of(0, pageSize(limit) + 1);
+                List<News> rows = searchWithFallback(fullTextQuery,
+                        () -> newsRepository.fullTextSearchPage(fullTextQuery, cursor.publishedAt(), cursor.id(), pageable),
+                        () -> newsRepository.searchNewsPage(keyword, cursor.publishedAt(), cursor.id(), pageable));
+                results = toCursorPage(rows, pageSize(limit));
+            } else {
+                // Relevance ranking has no stable keyset, so these pages are addressed by number
+                Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize(limit));
+                List<News> rows = searchWithFallback(fullTextQuery,
+                        () -> newsRepository.fullTextSearch(fullTextQuery, pageable),
+                        () -> newsRepository.searchNews(keyword, pageable));
+                results = new CursorPage<>(rows, null);
+            }
+            log.debug("Found {} news items matching keyword: {}", results.items().size(), keyword);
             return results;
         } catch (Exception e) {
             log.error("Error searching news with keyword {}: {}", keyword, e.getMessage(), e);
@@ -47,21 +148,75 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    /**
+     * Runs the FULLTEXT query when there is one. If MySQL rejects it, typically because the FULLTEXT
+     * index is missing, the search falls back to the LIKE query on the raw keyword.
+     */
+    private <T> List<T> searchWithFallback(String fullTextQuery, Supplier<List<T>> fullTextSearch,
+                                           Supplier<List<T>> likeSearch) {
+        if (fullTextQuery != null) {
+            try {
+                return fullTextSearch.get();
+            } catch (DataAccessException e) {
+                log.warn("FULLTEXT search failed, falling back to LIKE: {}", e.getMessage());
+            }
+        }
+        return likeSearch.get();
+    }
+
+    /**
+     * Converts a search keyword into a MySQL boolean mode query. Quoted parts become phrase matches and
+     * every other word must be present, matched as a prefix. Returns null when a word is shorter than
+     * the FULLTEXT index's minimum token length and so can only be found with a LIKE scan.
+     */
+    private String toFullTextQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        Matcher matcher = SEARCH_TERM.matcher(keyword);
+        while (matcher.find()) {
+            boolean phrase = matcher.group(1) != null;
+            String[] words = BOOLEAN_OPERATORS.matcher(phrase ? matcher.group(1) : matcher.group(2))
+                    .replaceAll(" ").trim().split("\\s+");
+            if (words.length == 0 || words[0].isEmpty()) {
+                continue;
+            }
+            for (String word : words) {
+                if (word.codePointCount(0, word.length()) < fullTextMinTokenLength) {
+                    return null;
+                }
+            }
+            if (phrase) {
+                query.append("+\"").append(String.join(" ", words)).append("\" ");
+            } else {
+                for (String word : words) {
+                    query.append('+').append(word).append("* ");
+                }
+            }
+        }
+        return query.length() == 0 ? null : query.toString().trim();
+    }
+
     @Override
-    public List<News> getDailyNews(String targetLanguage) {
+    public CursorPage<News> getDailyNews(String targetLanguage, int limit, NewsCursor cursor) {
         log.debug("Getting daily news with translation to language: {}", targetLanguage);
         try {
             LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
             LocalDateTime endOfDay = LocalDateTime.now();
             log.debug("start: {} end : {}", startOfDay,endOfDay);
-            List<News> dailyNews = newsRepository.findLatestNewsOrderByPublishedAtDesc(startOfDay, endOfDay);
-
-            // Translate if target language is provided
-            if (targetLanguage != null && !targetLanguage.isEmpty()) {
-                return translateNewsList(dailyNews, targetLanguage);
-            }
+            return bulletinCache.get(BulletinCache.Key.of(VIEW_FULL, null, targetLanguage, limit, cursor.encode()), () -> {
+                List<News> rows = newsRepository.findLatestNewsPage(startOfDay, endOfDay,
+                        cursor.publishedAt(), cursor.id(), PageRequest.of(0, pageSize(limit) + 1));
+                CursorPage<News> dailyNews = toCursorPage(rows, pageSize(limit));
+
+                // Translate if target language is provided
+                if (targetLanguage != null && !targetLanguage.isEmpty()) {
+                    return new CursorPage<>(translateNewsList(dailyNews.items(), targetLanguage), dailyNews.nextCursor());
+                }
 
-            return dailyNews;
+                return dailyNews;
+            });
         } catch (Exception e) {
             log.error("Error getting daily news: {}", e.getMessage(), e);
             throw e;
@@ -69,188 +224,555 @@ public class NewsServiceImpl implements NewsService {
     }
 
 
+    /**
+     * Fetches, enriches, stores and translates news without blocking the caller. Pages are scraped
+     * through the Netty client; only database work runs on the bounded {@code news-db} scheduler and
+     * the blocking translation client on the bounded elastic scheduler. Scraped articles are written
+     * in batches of {@code news.stream.batch-size}, like the streaming variant.
+     */
     @Override
-    public List<News> fetchNewsFromExternalApi(String query, String targetLanguage) {
+    public Mono<List<News>> fetchNewsFromExternalApiReactive(String query, String targetLanguage) {
         log.debug("Fetching news from external API with query: {}", query);
+        return fetchNewsDTOsReactive("&q=" + URLEncoder.encode(query, StandardCharsets.UTF_8))
+                // Skip articles we already have, then scrape the new ones and store them in small batches
+                // as they finish, so a request cut off by the async timeout keeps what was scraped
+                .flatMap(newsDTOs -> Mono.fromCallable(() -> planIngest(newsDTOs, true)).subscribeOn(dbScheduler))
+                .flatMap(plan -> Flux.fromIterable(plan.newDTOs())
+                        .flatMap(webScraperService::fetchArticleContent, enrichmentConcurrency)
+                        .bufferTimeout(streamBatchSize, Duration.ofMillis(streamFlushMs))
+                        .concatMap(enrichedDTOs -> Mono.fromCallable(() -> storeNewArticles(plan, enrichedDTOs))
+                                .subscribeOn(dbScheduler))
+                        .then(Mono.fromSupplier(plan::result)))
+                // Translate the fetched news if target language is provided
+                .flatMap(fetchedNews -> targetLanguage != null && !targetLanguage.isEmpty() && !fetchedNews.isEmpty()
+                        ? Mono.fromCallable(() -> translateNewsList(fetchedNews, targetLanguage)).subscribeOn(Schedulers.boundedElastic())
+                        : Mono.just(fetchedNews))
+                .doOnError(e -> log.error("Error fetching/saving news from external API with query {}: {}", query, e.getMessage(), e));
+    }
+
+    /**
+     * Streaming variant of {@link #fetchNewsFromExternalApiReactive}: already stored articles are
+     * emitted right away, and new ones as soon as they are scraped, stored and translated. Scraped
+     * articles are written in small batches collected for at most {@code news.stream.flush-ms}.
+     */
+    @Override
+    public Flux<News> streamNewsFromExternalApi(String query, String targetLanguage) {
+        log.debug("Streaming news from external API with query: {}", query);
+        Flux<News> storedNews = fetchNewsDTOsReactive("&q=" + URLEncoder.encode(query, StandardCharsets.UTF_8))
+                .flatMap(newsDTOs -> Mono.fromCallable(() -> planIngest(newsDTOs, true)).subscribeOn(dbScheduler))
+                .flatMapMany(plan -> Flux.concat(
+                        Flux.fromIterable(plan.result()),
+                        Flux.fromIterable(plan.newDTOs())
+                                .flatMap(webScraperService::fetchArticleContent, enrichmentConcurrency)
+                                .bufferTimeout(streamBatchSize, Duration.ofMillis(streamFlushMs))
+                                .concatMap(enrichedDTOs -> Mono.fromCallable(() -> storeNewArticles(plan, enrichedDTOs))
+                                        .subscribeOn(dbScheduler))
+                                .flatMapIterable(inserted -> inserted)));
+
+        if (targetLanguage != null && !targetLanguage.isEmpty()) {
+            // Translate whatever arrived within one flush interval in a single batched call
+            storedNews = storedNews
+                    .buffer(Duration.ofMillis(streamFlushMs))
+                    .filter(newsList -> !newsList.isEmpty())
+                    .concatMap(newsList -> Mono.fromCallable(() -> translateNewsList(newsList, targetLanguage))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .flatMapIterable(newsList -> newsList);
+        }
+        return storedNews
+                .doOnError(e -> log.error("Error streaming news from external API with query {}: {}", query, e.getMessage(), e));
+    }
+
+    /**
+     * Pages through the external API's results, newest first, storing every page's new articles before
+     * fetching the next one. Stops at a page without new articles, at the page that reaches
+     * {@code publishedAfter}, or after {@code news.ingestion.max-pages} pages.
+     */
+    @Override
+    public IngestResult ingestNews(String query, String category, LocalDateTime publishedAfter) {
+        log.debug("Ingesting news for query: {} category: {} published after: {}", query, category, publishedAfter);
         try {
-            String url = baseUrl + "&apiKey=" + apiKey + "&q=" + query;
-            log.debug("Making request to external API: {}", url.replace(apiKey, "API_KEY_HIDDEN"));
-            
-            List<News> fetchedNews = webClientBuilder.build()
+            StringBuilder params = new StringBuilder();
+            if (query != null && !query.isBlank()) {
+                params.append("&q=").append(URLEncoder.encode(query, StandardCharsets.UTF_8));
+            }
+            if (category != null && !category.isBlank()) {
+                params.append("&category=").append(URLEncoder.encode(category, StandardCharsets.UTF_8));
+            }
+            int fetchedCount = 0;
+            int insertedCount = 0;
+            LocalDateTime newestPublishedAt = null;
+            String pageToken = null;
+            for (int page = 0; page < ingestionMaxPages; page++) {
+                NewsPage newsPage = fetchNewsPage(pageToken == null ? params.toString()
+                        : params + "&page=" + URLEncoder.encode(pageToken, StandardCharsets.UTF_8));
+                // Articles published at the watermark itself are fetched again, since several articles can
+                // share a timestamp; the ones already stored are skipped by fingerprint
+                List<NewsDTO> newsDTOs = newsPage.items().stream()
+                        .filter(newsDTO -> publishedAfter == null || !newsDTO.getPublishedAt().isBefore(publishedAfter))
+                        .toList();
+                fetchedCount += newsDTOs.size();
+                for (NewsDTO newsDTO : newsDTOs) {
+                    if (newsDTO.getPublishedAt() != null
+                            && (newestPublishedAt == null || newsDTO.getPublishedAt().isAfter(newestPublishedAt))) {
+                        newestPublishedAt = newsDTO.getPublishedAt();
+                    }
+                }
+                if (newsDTOs.isEmpty()) {
+                    break;
+                }
+                IngestPlan plan = planIngest(newsDTOs, true);
+                // The feed is newest first: a page without new articles means the rest is stored already
+                if (plan.newDTOs().isEmpty()) {
+                    break;
+                }
+                insertedCount += storeNewArticles(plan, enrichNewsInParallel(plan.newDTOs())).size();
+                // Stop at the last page, or at the page that reached the watermark
+                if (newsPage.nextPage() == null || newsDTOs.size() < newsPage.items().size()) {
+                    break;
+                }
+                pageToken = newsPage.nextPage();
+            }
+            log.debug("Ingested {} new of {} fetched news items for query: {} category: {}",
+                    insertedCount, fetchedCount, query, category);
+            return new IngestResult(fetchedCount, insertedCount, newestPublishedAt);
+        } catch (Exception e) {
+            log.error("Error ingesting news for query {} category {}: {}", query, category, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * One page of results of the external API, with the token of the next page or null on the last one
+     */
+    private record NewsPage(List<NewsDTO> items, String nextPage) {
+    }
+
+    private Mono<List<NewsDTO>> fetchNewsDTOsReactive(String params) {
+        return fetchNewsPageReactive(params).map(NewsPage::items);
+    }
+
+    private Mono<NewsPage> fetchNewsPageReactive(String params) {
+        String url = baseUrl + "&apiKey=" + apiKey + params;
+        log.debug("Making request to external API: {}", url.replace(apiKey, "API_KEY_HIDDEN"));
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return webClientBuilder.build()
                     .get()
                     .uri(url)
                     .retrieve()
                     .bodyToMono(NewsApiResponse.class)
-                    .map(response -> {
-                        log.debug("Received {} results from external API", response.getResults().size());
-                        List<NewsDTO> newsDTOs = response.getResults().stream()
-                                .map(this::mapToNewsDTO)
-                                .toList();
-                        
-                        // Fetch content and images sequentially from source URLs
-                        return enrichNewsSequentially(newsDTOs);
-                    })
-                    .block();
-            if(Objects.isNull(fetchedNews)) return new ArrayList<>();
-            // Translate the fetched news if target language is provided
-            if (targetLanguage != null && !targetLanguage.isEmpty() && !fetchedNews.isEmpty()) {
-                return translateNewsList(fetchedNews, targetLanguage);
+                    .doOnSuccess(response -> sample.stop(apiTimer("success")))
+                    .doOnError(e -> sample.stop(apiTimer("error")));
+        })
+                .map(response -> {
+                    if (Objects.isNull(response.getResults())) return new NewsPage(List.of(), null);
+                    log.debug("Received {} results from external API", response.getResults().size());
+                    return new NewsPage(response.getResults().stream()
+                            .map(NewsServiceImpl::mapToNewsDTO)
+                            .toList(), response.getNextPage());
+                })
+                .defaultIfEmpty(new NewsPage(List.of(), null));
+    }
+
+    private Timer apiTimer(String outcome) {
+        return Timer.builder("news.api.request")
+                .description("Requests to the newsdata.io API")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private NewsPage fetchNewsPage(String params) {
+        return fetchNewsPageReactive(params).block();
+    }
+
+    /**
+     * Enriches news DTOs in parallel by fetching full content and images from source URLs.
+     * At most {@code news.enrichment.concurrency} articles are scraped at once; politeness towards
+     * each source host is enforced by the scraper itself. Results keep the order of the input list.
+     */
+    private List<NewsDTO> enrichNewsInParallel(List<NewsDTO> newsDTOs) {
+        log.info("Starting parallel enrichment of {} news articles with concurrency {}",
+                newsDTOs.size(), enrichmentConcurrency);
+
+        List<NewsDTO> enrichedNews = Flux.fromIterable(newsDTOs)
+                .flatMapSequential(webScraperService::fetchArticleContent, enrichmentConcurrency)
+                .collectList()
+                .block();
+        if (Objects.isNull(enrichedNews)) return new ArrayList<>();
+
+        log.info("Completed parallel enrichment of {} articles", enrichedNews.size());
+        return enrichedNews;
+    }
+
+    @Override
+    public News createNews(NewsDTO newsDTO) {
+        log.debug("Creating news with title: {}", newsDTO.getTitle());
+        try {
+            List<News> saved = ingest(List.of(newsDTO));
+            if (saved.isEmpty()) {
+                // Insert and reload share the fingerprint key, so this means the insert itself failed
+                throw new RuntimeException("News article not found after insert");
             }
-            
-            return fetchedNews;
+            return saved.get(0);
         } catch (Exception e) {
-            log.error("Error fetching/saving news from external API with query {}: {}", query, e.getMessage(), e);
+            log.error("Error creating news: {}", e.getMessage(), e);
             throw e;
         }
     }
 
     /**
-     * Enriches news DTOs sequentially by fetching full content and images from source URLs
+     * Stores articles posted by hand in a constant number of round trips: one query finds the
+     * articles that already exist by fingerprint, the new ones are written in one JDBC batch, and a
+     * second query loads them back with their IDs. They are stored as given, even when they resemble
+     * a stored article. The result follows the input order, without duplicates.
      */
-    private List<News> enrichNewsSequentially(List<NewsDTO> newsDTOs) {
-        log.info("Starting sequential enrichment of {} news articles", newsDTOs.size());
-        List<News> enrichedNews = new ArrayList<>();
-        
-        for (int i = 0; i < newsDTOs.size(); i++) {
-            NewsDTO newsDTO = newsDTOs.get(i);
-            log.debug("Processing article {}/{}: {}", i + 1, newsDTOs.size(), newsDTO.getTitle());
-            
-            try {
-                // Enrich the news DTO with scraped content and images
-                newsDTO=enrichNewsDTO(newsDTO);
-                
-                // Create and save the news
-                News savedNews = createNews(newsDTO);
-                if (savedNews != null) {
-                    enrichedNews.add(savedNews);
-                    log.debug("Successfully enriched and saved article {}/{}", i + 1, newsDTOs.size());
+    private List<News> ingest(List<NewsDTO> newsDTOs) {
+        IngestPlan plan = planIngest(newsDTOs, false);
+        if (!plan.newDTOs().isEmpty()) {
+            storeNewArticles(plan, plan.newDTOs());
+        }
+        return plan.result();
+    }
+
+    /**
+     * Articles of one ingest batch, keyed by fingerprint. {@code stored} starts with the articles found
+     * in the database and receives the new ones once they are written.
+     */
+    private record IngestPlan(Map<String, NewsDTO> byFingerprint, Map<String, News> stored,
+                              Map<String, int[]> signatures, Map<String, String> duplicateOfBatch,
+                              List<NewsDTO> newDTOs) {
+
+        /**
+         * The stored article for every input article in input order, without duplicates
+         */
+        List<News> result() {
+            return byFingerprint.keySet().stream()
+                    .map(fingerprint -> stored.get(duplicateOfBatch.getOrDefault(fingerprint, fingerprint)))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+        }
+    }
+
+    /**
+     * Finds which articles of a batch are already stored, exactly or, with {@code clusterNearDuplicates},
+     * as a near duplicate, and which ones have to be enriched and written. Runs a fixed number of queries.
+     * <p>
+     * Clustering is used for articles from the external API: a near duplicate of a stored article, or
+     * of an earlier article in the same batch, is answered with that article instead of being scraped,
+     * stored and translated again.
+     */
+    private IngestPlan planIngest(List<NewsDTO> newsDTOs, boolean clusterNearDuplicates) {
+        Map<String, NewsDTO> byFingerprint = new LinkedHashMap<>();
+        for (NewsDTO newsDTO : newsDTOs) {
+            byFingerprint.putIfAbsent(News.fingerprintOf(newsDTO.getTitle(), newsDTO.getDescription()), newsDTO);
+        }
+        Map<String, News> stored = new ConcurrentHashMap<>();
+        if (byFingerprint.isEmpty()) {
+            return new IngestPlan(byFingerprint, stored, Map.of(), Map.of(), List.of());
+        }
+
+        newsRepository.findByFingerprintIn(byFingerprint.keySet())
+                .forEach(news -> stored.putIfAbsent(news.getFingerprint(), news));
+        int storedExact = stored.size();
+
+        // Cluster the remaining articles on near-duplicate signatures. Signatures are computed either
+        // way, so that stored articles join the index.
+        Map<String, int[]> signatures = new HashMap<>();
+        Map<String, Long> nearStoredIds = new HashMap<>();
+        for (Map.Entry<String, NewsDTO> entry : byFingerprint.entrySet()) {
+            if (stored.containsKey(entry.getKey())) {
+                continue;
+            }
+            int[] signature = nearDuplicateIndex.signatureOf(entry.getValue().getTitle(), entry.getValue().getDescription());
+            if (signature != null) {
+                signatures.put(entry.getKey(), signature);
+                Long storedId = clusterNearDuplicates ? nearDuplicateIndex.findNearDuplicate(signature) : null;
+                if (storedId != null) {
+                    nearStoredIds.put(entry.getKey(), storedId);
                 }
-                
-                // Add a small delay between requests to be respectful to source servers
-                if (i < newsDTOs.size() - 1) {
-                    Thread.sleep(500); // 500ms delay between requests
+            }
+        }
+        if (!nearStoredIds.isEmpty()) {
+            // The index may still name an article that has been deleted since
+            Map<Long, News> canonical = new HashMap<>();
+            newsRepository.findAllById(nearStoredIds.values()).forEach(news -> canonical.put(news.getId(), news));
+            nearStoredIds.forEach((fingerprint, id) -> {
+                if (canonical.containsKey(id)) {
+                    stored.put(fingerprint, canonical.get(id));
                 }
-            } catch (InterruptedException e) {
-                log.warn("Thread interrupted during sequential processing");
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                log.error("Error enriching news item {}: {}", newsDTO.getTitle(), e.getMessage());
-                // Continue with next article even if one fails
+            });
+        }
+
+        Map<String, String> duplicateOfBatch = new HashMap<>();
+        Map<String, int[]> batchSignatures = new LinkedHashMap<>();
+        List<NewsDTO> newDTOs = new ArrayList<>();
+        for (Map.Entry<String, NewsDTO> entry : byFingerprint.entrySet()) {
+            if (stored.containsKey(entry.getKey())) {
+                continue;
+            }
+            int[] signature = signatures.get(entry.getKey());
+            if (clusterNearDuplicates && signature != null) {
+                String batchDuplicate = batchSignatures.entrySet().stream()
+                        .filter(other -> nearDuplicateIndex.isNearDuplicate(signature, other.getValue()))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse(null);
+                if (batchDuplicate != null) {
+                    duplicateOfBatch.put(entry.getKey(), batchDuplicate);
+                    continue;
+                }
+                batchSignatures.put(entry.getKey(), signature);
             }
+            newDTOs.add(entry.getValue());
         }
-        
-        log.info("Completed sequential enrichment. Successfully processed {}/{} articles", 
-                enrichedNews.size(), newsDTOs.size());
-        return enrichedNews;
+        log.debug("{} of {} articles already stored, {} near duplicates within the batch",
+                stored.size(), byFingerprint.size(), duplicateOfBatch.size());
+        dedupCheckedCounter.increment(newsDTOs.size());
+        // Repeated fingerprints within the batch count as exact duplicates too
+        exactDuplicateCounter.increment(newsDTOs.size() - byFingerprint.size() + storedExact);
+        nearDuplicateCounter.increment(stored.size() - storedExact);
+        batchDuplicateCounter.increment(duplicateOfBatch.size());
+
+        return new IngestPlan(byFingerprint, stored, signatures, duplicateOfBatch, newDTOs);
     }
 
     /**
-     * Enriches a single NewsDTO by fetching content and images from source URL
+     * Writes enriched new articles of a plan in one JDBC batch and loads them back with their IDs
+     *
+     * @return the articles that were inserted
      */
-    private NewsDTO enrichNewsDTO(NewsDTO newsDTO) {
-        if (newsDTO.getSourceUrl() == null || newsDTO.getSourceUrl().isEmpty()) {
-            log.debug("No source URL available for article: {}", newsDTO.getTitle());
-            return newsDTO;
+    private List<News> storeNewArticles(IngestPlan plan, List<NewsDTO> enrichedDTOs) {
+        if (enrichedDTOs.isEmpty()) {
+            return List.of();
         }
-         return webScraperService.fetchArticleContent(newsDTO);
+        List<News> toInsert = enrichedDTOs.stream().map(this::toNews).toList();
+        List<News> inserted = dbSaveTimer.record(() -> {
+            newsRepository.insertAll(toInsert);
+            return newsRepository.findByFingerprintIn(toInsert.stream().map(News::getFingerprint).toList());
+        });
+        List<News> added = new ArrayList<>();
+        inserted.forEach(news -> {
+            if (plan.stored().putIfAbsent(news.getFingerprint(), news) == null) {
+                nearDuplicateIndex.add(news.getId(), plan.signatures().get(news.getFingerprint()));
+                preTranslationService.submit(news);
+                added.add(news);
+            }
+        });
+        added.stream().map(News::getCategory).distinct()
+                .forEach(category -> eventPublisher.publishEvent(new NewsChangedEvent(category)));
+        log.debug("Inserted {} new news articles", added.size());
+        return added;
+    }
 
+    private News toNews(NewsDTO newsDTO) {
+        News news = new News();
+        news.setTitle(newsDTO.getTitle());
+        news.setDescription(newsDTO.getDescription());
+        news.setContent(newsDTO.getContent());
+        news.setAuthor(newsDTO.getAuthor());
+        news.setSourceUrl(newsDTO.getSourceUrl());
+        news.setImageUrl(newsDTO.getImageUrl());
+        news.setPublishedAt(newsDTO.getPublishedAt() != null ? newsDTO.getPublishedAt() : LocalDateTime.now());
+        news.setFingerprint(News.fingerprintOf(newsDTO.getTitle(), newsDTO.getDescription()));
+
+        // Automatically classify category if not provided
+        if (newsDTO.getCategory() == null || newsDTO.getCategory().trim().isEmpty()) {
+            String category = classifyTimer.record(() -> categoryClassificationService.classifyNewsCategory(
+                    newsDTO.getTitle(), newsDTO.getDescription(), newsDTO.getContent()));
+            news.setCategory(category);
+            log.debug("Auto-classified news category as: {}", category);
+        } else {
+            news.setCategory(News.normalizeCategory(newsDTO.getCategory()));
+        }
+        return news;
     }
 
+
     @Override
-    public News createNews(NewsDTO newsDTO) {
-        log.debug("Creating news with title: {}", newsDTO.getTitle());
+    public CursorPage<News> getLatestNewsByCategory(String category, String targetLanguage, int limit, NewsCursor cursor) {
+        log.debug("Getting latest {} news items for category: {} in language: {}", limit, category, targetLanguage);
         try {
-            // Check for existing news with same title and source URL
-            if (newsRepository.existsByTitleAndDescription(newsDTO.getTitle(), newsDTO.getDescription())) {
-                log.debug("News article already exists with title: {} and desc: {}",
-                        newsDTO.getTitle(), newsDTO.getDescription());
-                return newsRepository.findByTitleAndDescription(newsDTO.getTitle(), newsDTO.getDescription())
-                        .orElseThrow(() -> new RuntimeException("News article not found after existence check"));
-            }
+            LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
+            LocalDateTime endOfDay = LocalDateTime.now();
+            log.debug("start: {} end : {}", startOfDay,endOfDay);
+            String normalizedCategory = News.normalizeCategory(category);
+            return bulletinCache.get(BulletinCache.Key.of(VIEW_FULL, normalizedCategory, targetLanguage, limit, cursor.encode()), () -> {
+                List<News> rows = newsRepository.findLatestNewsPageByCategory(normalizedCategory, startOfDay, endOfDay,
+                        cursor.publishedAt(), cursor.id(), PageRequest.of(0, pageSize(limit) + 1));
+                CursorPage<News> categoryNews = toCursorPage(rows, pageSize(limit));
 
-            News news = new News();
-            news.setTitle(newsDTO.getTitle());
-            news.setDescription(newsDTO.getDescription());
-            news.setContent(newsDTO.getContent());
-            news.setAuthor(newsDTO.getAuthor());
-            news.setSourceUrl(newsDTO.getSourceUrl());
-            news.setImageUrl(newsDTO.getImageUrl());
-            news.setPublishedAt(newsDTO.getPublishedAt() != null ? newsDTO.getPublishedAt() : LocalDateTime.now());
-
-            // Automatically classify category if not provided
-            if (newsDTO.getCategory() == null || newsDTO.getCategory().trim().isEmpty()) {
-                String category = categoryClassificationService.classifyNewsCategory(
-                        newsDTO.getTitle(), newsDTO.getDescription(), newsDTO.getContent());
-                news.setCategory(category);
-                log.debug("Auto-classified news category as: {}", category);
-            } else {
-                news.setCategory(newsDTO.getCategory().toUpperCase());
-            }
+                log.debug("Found {} news items for category: {}", categoryNews.items().size(), category);
+
+                // Translate if target language is provided
+                if (targetLanguage != null && !targetLanguage.isEmpty() && !targetLanguage.equalsIgnoreCase("en")) {
+                    return new CursorPage<>(translateNewsList(categoryNews.items(), targetLanguage), categoryNews.nextCursor());
+                }
 
-            News savedNews = newsRepository.save(news);
-            log.debug("Successfully created news with ID: {} and category: {}", savedNews.getId(), savedNews.getCategory());
-            return savedNews;
+                return categoryNews;
+            });
         } catch (Exception e) {
-            log.error("Error creating news: {}", e.getMessage(), e);
+            log.error("Error getting latest news by category {}: {}", category, e.getMessage(), e);
             throw e;
         }
     }
 
+    @Override
+    public CursorPage<NewsSummaryDTO> getDailyNewsSummaries(String targetLanguage, int limit, NewsCursor cursor) {
+        log.debug("Getting daily news summaries with translation to language: {}", targetLanguage);
+        try {
+            LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
+            LocalDateTime endOfDay = LocalDateTime.now();
+            return bulletinCache.get(BulletinCache.Key.of(VIEW_SUMMARY, null, targetLanguage, limit, cursor.encode()), () -> {
+                List<NewsSummary> rows = newsRepository.findLatestSummaryPage(startOfDay, endOfDay,
+                        cursor.publishedAt(), cursor.id(), PageRequest.of(0, pageSize(limit) + 1));
+                return toSummaryPage(toCursorPage(rows, pageSize(limit), NewsServiceImpl::summaryCursor), targetLanguage);
+            });
+        } catch (Exception e) {
+            log.error("Error getting daily news summaries: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
 
     @Override
-    public List<News> getLatestNewsByCategory(String category, String targetLanguage) {
-        log.debug("Getting latest {} news items for category: {} in language: {}", category, targetLanguage);
+    public CursorPage<NewsSummaryDTO> getLatestNewsSummariesByCategory(String category, String targetLanguage, int limit, NewsCursor cursor) {
+        log.debug("Getting latest {} news summaries for category: {} in language: {}", limit, category, targetLanguage);
         try {
             LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
             LocalDateTime endOfDay = LocalDateTime.now();
-            log.debug("start: {} end : {}", startOfDay,endOfDay);
-            List<News> dailyNews = newsRepository.findLatestNewsOrderByPublishedAtDesc(startOfDay, endOfDay);
+            String normalizedCategory = News.normalizeCategory(category);
+            return bulletinCache.get(BulletinCache.Key.of(VIEW_SUMMARY, normalizedCategory, targetLanguage, limit, cursor.encode()), () -> {
+                List<NewsSummary> rows = newsRepository.findLatestSummaryPageByCategory(normalizedCategory,
+                        startOfDay, endOfDay, cursor.publishedAt(), cursor.id(), PageRequest.of(0, pageSize(limit) + 1));
+                return toSummaryPage(toCursorPage(rows, pageSize(limit), NewsServiceImpl::summaryCursor), targetLanguage);
+            });
+        } catch (Exception e) {
+            log.error("Error getting latest news summaries by category {}: {}", category, e.getMessage(), e);
+            throw e;
+        }
+    }
 
-            List<News> categoryNews = dailyNews
-                    .stream()
-                    .filter(e-> e.getCategory().equalsIgnoreCase(category))
-                    .toList();
-            
-            log.debug("Found {} news items for category: {}", categoryNews.size(), category);
-            
-            // Translate if target language is provided
-            if (targetLanguage != null && !targetLanguage.isEmpty() && !targetLanguage.equalsIgnoreCase("en")) {
-                return translateNewsList(categoryNews, targetLanguage);
+    @Override
+    public CursorPage<NewsSummaryDTO> searchNewsSummaries(String keyword, String sort, int page, int limit, NewsCursor cursor) {
+        log.debug("Searching news summaries with keyword: {} (sort {}, page {}, limit {})", keyword, sort, page, limit);
+        try {
+            String fullTextQuery = fullTextSearchEnabled ? toFullTextQuery(keyword) : null;
+
+            CursorPage<NewsSummary> results;
+            if (SORT_RECENT.equalsIgnoreCase(sort)) {
+                Pageable pageable = PageRequest.of(0, pageSize(limit) + 1);
+                List<NewsSummary> rows = searchWithFallback(fullTextQuery,
+                        () -> newsRepository.fullTextSearchSummaryPage(fullTextQuery, cursor.publishedAt(), cursor.id(), pageable),
+                        () -> newsRepository.searchNewsSummaryPage(keyword, cursor.publishedAt(), cursor.id(), pageable));
+                results = toCursorPage(rows, pageSize(limit), NewsServiceImpl::summaryCursor);
+            } else {
+                Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize(limit));
+                List<NewsSummary> rows = searchWithFallback(fullTextQuery,
+                        () -> newsRepository.fullTextSearchSummaries(fullTextQuery, pageable),
+                        () -> newsRepository.searchNewsSummaries(keyword, pageable));
+                results = new CursorPage<>(rows, null);
             }
-            
-            return categoryNews;
+            log.debug("Found {} news summaries matching keyword: {}", results.items().size(), keyword);
+            return toSummaryPage(results, null);
         } catch (Exception e) {
-            log.error("Error getting latest news by category {}: {}", category, e.getMessage(), e);
+            log.error("Error searching news summaries with keyword {}: {}", keyword, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<News> getNewsById(Long id, String targetLanguage) {
+        log.debug("Getting news with ID: {} in language: {}", id, targetLanguage);
+        try {
+            Optional<News> news = newsRepository.findById(id);
+            if (news.isPresent() && targetLanguage != null && !targetLanguage.isEmpty()
+                    && !targetLanguage.equalsIgnoreCase("en")) {
+                return Optional.of(translateNewsList(List.of(news.get()), targetLanguage).get(0));
+            }
+            return news;
+        } catch (Exception e) {
+            log.error("Error getting news with ID {}: {}", id, e.getMessage(), e);
             throw e;
         }
     }
 
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Turns a query result fetched with one extra row into a page. The extra row only signals that
+     * another page exists; the cursor points past the last returned article.
+     */
+    private static CursorPage<News> toCursorPage(List<News> rows, int pageSize) {
+        return toCursorPage(rows, pageSize, NewsCursor::after);
+    }
+
+    private static <T> CursorPage<T> toCursorPage(List<T> rows, int pageSize, Function<T, NewsCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    private static NewsCursor summaryCursor(NewsSummary summary) {
+        return new NewsCursor(summary.getPublishedAt(), summary.getId());
+    }
+
+    /**
+     * Converts summary rows to DTOs, translating only titles and descriptions in one batched call
+     * when a target language other than English is given.
+     */
+    private CursorPage<NewsSummaryDTO> toSummaryPage(CursorPage<NewsSummary> page, String targetLanguage) {
+        List<NewsSummaryDTO> summaries = page.items().stream().map(NewsSummaryDTO::from).toList();
+        if (targetLanguage != null && !targetLanguage.isEmpty() && !targetLanguage.equalsIgnoreCase("en")) {
+            List<String> texts = new ArrayList<>();
+            for (NewsSummaryDTO summary : summaries) {
+                texts.add(summary.getTitle());
+                texts.add(summary.getDescription());
+            }
+            Map<String, String> translations = translationService.translateTexts(texts, targetLanguage);
+            for (NewsSummaryDTO summary : summaries) {
+                summary.setTitle(translations.getOrDefault(summary.getTitle(), summary.getTitle()));
+                summary.setDescription(translations.getOrDefault(summary.getDescription(), summary.getDescription()));
+            }
+        }
+        return new CursorPage<>(summaries, page.nextCursor());
+    }
 
+    /**
+     * Translates a whole list of news in a handful of batched requests and scatters the results back
+     * onto copies of the articles. Fields that could not be translated keep their original text.
+     */
     private List<News> translateNewsList(List<News> newsList, String targetLanguage) {
+        List<String> texts = new ArrayList<>();
+        for (News news : newsList) {
+            texts.add(news.getTitle());
+            texts.add(news.getDescription());
+            texts.add(news.getContent());
+        }
+        Map<String, String> translations = translationService.translateTexts(texts, targetLanguage);
+
         return newsList.stream()
                 .map(news -> {
-                    try {
-                        News translatedNews = new News();
-                        translatedNews.setId(news.getId());
-                        translatedNews.setTitle(translationService.translateText(news.getTitle(), targetLanguage));
-                        translatedNews.setDescription(translationService.translateText(news.getDescription(), targetLanguage));
-                        translatedNews.setContent(translationService.translateText(news.getContent(), targetLanguage));
-                        translatedNews.setAuthor(news.getAuthor());
-                        translatedNews.setSourceUrl(news.getSourceUrl());
-                        translatedNews.setImageUrl(news.getImageUrl());
-                        translatedNews.setCategory(news.getCategory());
-                        translatedNews.setPublishedAt(news.getPublishedAt());
-                        return translatedNews;
-                    } catch (Exception e) {
-                        log.error("Error translating news item {}: {}", news.getId(), e.getMessage());
-                        return news; // Return original if translation fails
-                    }
+                    News translatedNews = new News();
+                    translatedNews.setId(news.getId());
+                    translatedNews.setTitle(translations.getOrDefault(news.getTitle(), news.getTitle()));
+                    translatedNews.setDescription(translations.getOrDefault(news.getDescription(), news.getDescription()));
+                    translatedNews.setContent(translations.getOrDefault(news.getContent(), news.getContent()));
+                    translatedNews.setAuthor(news.getAuthor());
+                    translatedNews.setSourceUrl(news.getSourceUrl());
+                    translatedNews.setImageUrl(news.getImageUrl());
+                    translatedNews.setCategory(news.getCategory());
+                    translatedNews.setPublishedAt(news.getPublishedAt());
+                    return translatedNews;
                 })
                 .toList();
     }
 
-    private NewsDTO mapToNewsDTO(NewsApiResponse.NewsResult result) {
+    static NewsDTO mapToNewsDTO(NewsApiResponse.NewsResult result) {
         log.trace("Mapping external API result to NewsDTO: {}", result.getTitle());
         try {
             String title = result.getTitle() != null ? result.getTitle().trim() : "";
@@ -273,8 +795,9 @@ public class NewsServiceImpl implements NewsService {
     }
 
 
-    private static class NewsApiResponse {
+    static class NewsApiResponse {
         private List<NewsResult> results;
+        private String nextPage;
 
         public List<NewsResult> getResults() {
             return results;
@@ -284,7 +807,15 @@ public class NewsServiceImpl implements NewsService {
             this.results = results;
         }
 
-        private static class NewsResult {
+        public String getNextPage() {
+            return nextPage;
+        }
+
+        public void setNextPage(String nextPage) {
+            this.nextPage = nextPage;
+        }
+
+        static class NewsResult {
             private String title;
             private String description;
             private String content;
@@ -340,6 +871,7 @@ public class NewsServiceImpl implements NewsService {
         log.debug("Attempting to delete news with ID: {}", id);
         try {
             newsRepository.deleteById(id);
+            eventPublisher.publishEvent(NewsChangedEvent.deleted(id));
             log.debug("Successfully deleted news with ID: {}", id);
         } catch (Exception e) {
             log.error("Error deleting news with ID {}: {}", id, e.getMessage(), e);
@@ -351,6 +883,7 @@ public class NewsServiceImpl implements NewsService {
         log.debug("Attempting to delete all news from database");
         try {
             newsRepository.deleteAll();
+            eventPublisher.publishEvent(NewsChangedEvent.anyCategory());
             log.debug("Successfully deleted all news from database");
         } catch (Exception e) {
             log.error("Error deleting all news: {}", e.getMessage(), e);
@@ -0,0 +1,149 @@
+package org.demo.services.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.News;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background stage that translates freshly saved articles into the configured hot languages, so that
+ * bulletin reads in those languages are served from the translation cache. Work is buffered in a
+ * bounded queue; when it is full, producers wait briefly and the article is skipped after that.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PreTranslationService {
+
+    private final TranslationService translationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.pretranslate.languages:}")
+    private String[] configuredLanguages;
+
+    @Value("${translation.pretranslate.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${translation.pretranslate.workers:2}")
+    private int workers;
+
+    @Value("${translation.pretranslate.batch-size:20}")
+    private int batchSize;
+
+    @Value("${translation.pretranslate.enqueue-timeout-ms:200}")
+    private long enqueueTimeoutMs;
+
+    private List<String> hotLanguages = List.of();
+    private BlockingQueue<PreTranslationJob> queue;
+    private ExecutorService executor;
+    private Counter submittedCounter;
+    private Counter droppedCounter;
+    private Counter translatedCounter;
+
+    private record PreTranslationJob(List<String> texts) {
+    }
+
+    @PostConstruct
+    void start() {
+        // A trailing comma or an empty property leaves blank entries
+        hotLanguages = Arrays.stream(configuredLanguages)
+                .map(String::trim)
+                .filter(language -> !language.isBlank())
+                .toList();
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("news.pretranslate.queue.depth", queue, BlockingQueue::size)
+                .description("Articles waiting to be pre-translated")
+                .register(meterRegistry);
+        submittedCounter = meterRegistry.counter("news.pretranslate.submitted");
+        droppedCounter = meterRegistry.counter("news.pretranslate.dropped");
+        translatedCounter = meterRegistry.counter("news.pretranslate.translated");
+
+        if (!isEnabled()) {
+            log.info("Pre-translation disabled, no hot languages configured");
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "pretranslate-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::runWorker);
+        }
+        log.info("Pre-translation started for languages {} with {} workers", hotLanguages, workers);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues a saved article for translation into the hot languages. Blocks for at most
+     * {@code enqueue-timeout-ms} when the queue is full and drops the article after that.
+     */
+    public void submit(News news) {
+        if (!isEnabled()) {
+            return;
+        }
+        PreTranslationJob job = new PreTranslationJob(
+                Arrays.asList(news.getTitle(), news.getDescription(), news.getContent()));
+        try {
+            if (queue.offer(job, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                submittedCounter.increment();
+            } else {
+                droppedCounter.increment();
+                log.warn("Pre-translation queue full, skipping news with ID: {}", news.getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isEnabled() {
+        return !hotLanguages.isEmpty();
+    }
+
+    private void runWorker() {
+        List<PreTranslationJob> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+
+                List<String> texts = new ArrayList<>();
+                batch.forEach(job -> texts.addAll(job.texts()));
+                for (String language : hotLanguages) {
+                    translationService.translateTexts(texts, language);
+                }
+                translatedCounter.increment(batch.size());
+                log.debug("Pre-translated {} articles into {}", batch.size(), hotLanguages);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error pre-translating {} articles: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.demo.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.ScrapedPage;
+import org.demo.repositories.ScrapedPageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache of scraped pages keyed by normalized URL. It keeps the extracted content and image
+ * together with the validators the publisher sent, so that a page scraped recently is not fetched
+ * again and an older one is revalidated with a conditional GET. The second tier is the
+ * {@code scraped_page} table.
+ * <p>
+ * The memory tier is bounded by the characters of the cached pages rather than their number, and
+ * its entries are never modified: every change stores a new copy.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScrapeCache {
+
+    private final ScrapedPageRepository scrapedPageRepository;
+    private final Scheduler dbScheduler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${web.scraper.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${web.scraper.cache.fresh-seconds:900}")
+    private long freshSeconds;
+
+    @Value("${web.scraper.cache.max-chars:50000000}")
+    private long maxChars;
+
+    private Cache<String, ScrapedPage> memoryCache;
+
+    @PostConstruct
+    void init() {
+        memoryCache = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((String urlHash, ScrapedPage page) -> weightOf(page))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, "news.scrape.cache");
+    }
+
+    /**
+     * Returns the cached page for the URL, completing empty when there is none
+     */
+    public Mono<ScrapedPage> lookup(String url) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        String urlHash = TranslationCache.sha256(normalizeUrl(url));
+        ScrapedPage cached = memoryCache.getIfPresent(urlHash);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> scrapedPageRepository.findByUrlHash(urlHash).orElse(null))
+                .subscribeOn(dbScheduler)
+                .doOnNext(stored -> memoryCache.put(urlHash, stored))
+                .onErrorResume(e -> {
+                    log.warn("Error reading scraped page for {}: {}", url, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Whether the page was fetched recently enough to be used without asking the publisher
+     */
+    public boolean isFresh(ScrapedPage page) {
+        return page.getFetchedAt() != null
+                && page.getFetchedAt().plus(Duration.ofSeconds(freshSeconds)).isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * Stores a freshly downloaded page, replacing the previous version
+     */
+    public Mono<Void> store(String url, ScrapedPage previous, String content, String imageUrl,
+                            String etag, String lastModified) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        ScrapedPage page = new ScrapedPage();
+        if (previous != null) {
+            page.setId(previous.getId());
+        }
+        String normalizedUrl = normalizeUrl(url);
+        page.setUrlHash(TranslationCache.sha256(normalizedUrl));
+        page.setUrl(normalizedUrl);
+        page.setContent(content);
+        page.setImageUrl(imageUrl);
+        page.setEtag(etag);
+        page.setLastModified(lastModified);
+        page.setFetchedAt(LocalDateTime.now());
+        return save(page);
+    }
+
+    /**
+     * Records that the publisher confirmed the cached page as unchanged
+     */
+    public Mono<Void> touch(ScrapedPage page) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        ScrapedPage touched = copyOf(page);
+        touched.setFetchedAt(LocalDateTime.now());
+        return save(touched);
+    }
+
+    private Mono<Void> save(ScrapedPage page) {
+        String urlHash = page.getUrlHash();
+        memoryCache.put(urlHash, page);
+        // The repository gets its own copy; the saved entity, which carries the generated ID, then
+        // replaces the cached one unless a newer version was cached meanwhile
+        return Mono.fromCallable(() -> scrapedPageRepository.save(copyOf(page)))
+                .subscribeOn(dbScheduler)
+                .doOnNext(saved -> memoryCache.asMap().computeIfPresent(urlHash,
+                        (key, current) -> current == page ? saved : current))
+                .then()
+                .onErrorResume(e -> {
+                    // Most likely another request stored the same page first. The cached copy has no
+                    // ID or a stale one, so drop it and let the next lookup load the stored row.
+                    log.debug("Could not persist scraped page {}: {}", page.getUrl(), e.getMessage());
+                    memoryCache.asMap().remove(urlHash, page);
+                    return Mono.empty();
+                });
+    }
+
+    private static ScrapedPage copyOf(ScrapedPage page) {
+        ScrapedPage copy = new ScrapedPage();
+        copy.setId(page.getId());
+        copy.setUrlHash(page.getUrlHash());
+        copy.setUrl(page.getUrl());
+        copy.setContent(page.getContent());
+        copy.setImageUrl(page.getImageUrl());
+        copy.setEtag(page.getEtag());
+        copy.setLastModified(page.getLastModified());
+        copy.setFetchedAt(page.getFetchedAt());
+        return copy;
+    }
+
+    private static int weightOf(ScrapedPage page) {
+        return length(page.getContent()) + length(page.getUrl()) + length(page.getImageUrl())
+                + length(page.getEtag()) + length(page.getLastModified());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * Lower cases scheme and host and drops the fragment, default ports and tracking parameters, so
+     * that links to the same article from different feeds share one entry
+     */
+    static String normalizeUrl(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return url.trim();
+            }
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            int port = uri.getPort();
+            boolean defaultPort = port == -1 || (scheme.equals("http") && port == 80) || (scheme.equals("https") && port == 443);
+            String query = uri.getRawQuery() == null ? null : Arrays.stream(uri.getRawQuery().split("&"))
+                    .filter(param -> !param.isEmpty() && !isTrackingParameter(param))
+                    .collect(Collectors.joining("&"));
+
+            StringBuilder normalized = new StringBuilder()
+                    .append(scheme).append("://").append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (!defaultPort) {
+                normalized.append(':').append(port);
+            }
+            normalized.append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+            if (query != null && !query.isEmpty()) {
+                normalized.append('?').append(query);
+            }
+            return normalized.toString();
+        } catch (IllegalArgumentException e) {
+            return url.trim();
+        }
+    }
+
+    private static boolean isTrackingParameter(String param) {
+        String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || name.equals("fbclid") || name.equals("gclid") || name.equals("mc_cid")
+                || name.equals("mc_eid") || name.equals("ocid");
+    }
+}
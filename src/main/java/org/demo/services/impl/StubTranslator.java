@@ -0,0 +1,31 @@
+package org.demo.services.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.demo.services.Translator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process translator that returns the source text unchanged. Enable it with
+ * {@code translation.provider=stub} for tests, benchmarks and local runs without Google credentials.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "translation.provider", havingValue = "stub")
+public class StubTranslator implements Translator {
+
+    @Override
+    public String translate(String text, String targetLanguage) {
+        log.trace("Stub translation of {} characters to {}", text.length(), targetLanguage);
+        return text;
+    }
+
+    @Override
+    public List<String> translateAll(List<String> texts, String targetLanguage) {
+        log.trace("Stub translation of {} texts to {}", texts.size(), targetLanguage);
+        return new ArrayList<>(texts);
+    }
+}
@@ -0,0 +1,142 @@
+package org.demo.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.demo.models.NewsTranslation;
+import org.demo.repositories.NewsTranslationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Two-tier cache of translation results keyed by (SHA-256 of the source text, target language).
+ * The first tier is an in-memory W-TinyLFU cache bounded by the total number of cached characters;
+ * the optional second tier is the {@code news_translation} table, which survives restarts. The
+ * stub provider's fake translations are only kept in memory, so they never outlive a test run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranslationCache {
+
+    private final NewsTranslationRepository newsTranslationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.cache.max-chars:20000000}")
+    private long maxChars;
+
+    @Value("${translation.cache.persistent.enabled:true}")
+    private boolean persistentEnabled;
+
+    @Value("${translation.provider:google}")
+    private String provider;
+
+    private Cache<Key, String> memoryCache;
+
+    record Key(String sourceHash, String targetLanguage) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (persistentEnabled && "stub".equalsIgnoreCase(provider)) {
+            log.info("Stub translation provider in use, translations are not persisted");
+            persistentEnabled = false;
+        }
+        memoryCache = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((Key key, String translated) -> translated.length())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, "news.translation.cache");
+    }
+
+    /**
+     * Looks up several texts at once. Memory misses are resolved with a single query against the
+     * persistent tier. The result only contains the texts that were found.
+     */
+    public Map<String, String> getAll(Collection<String> texts, String targetLanguage) {
+        String language = normalizeLanguage(targetLanguage);
+        Map<String, String> found = new HashMap<>();
+        Map<String, String> missesByHash = new LinkedHashMap<>();
+
+        for (String text : texts) {
+            String hash = sha256(text);
+            String cached = memoryCache.getIfPresent(new Key(hash, language));
+            if (cached != null) {
+                found.put(text, cached);
+            } else {
+                missesByHash.put(hash, text);
+            }
+        }
+
+        if (persistentEnabled && !missesByHash.isEmpty()) {
+            try {
+                for (NewsTranslation stored : newsTranslationRepository
+                        .findBySourceHashInAndTargetLanguage(missesByHash.keySet(), language)) {
+                    String text = missesByHash.get(stored.getSourceHash());
+                    memoryCache.put(new Key(stored.getSourceHash(), language), stored.getTranslatedText());
+                    found.put(text, stored.getTranslatedText());
+                }
+            } catch (Exception e) {
+                log.warn("Error reading persisted translations for {}: {}", language, e.getMessage());
+            }
+        }
+
+        log.trace("Translation cache lookup for {}: {}/{} hits", language, found.size(), texts.size());
+        return found;
+    }
+
+    /**
+     * Stores translations of source texts in both tiers
+     */
+    public void putAll(Map<String, String> translations, String targetLanguage) {
+        String language = normalizeLanguage(targetLanguage);
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            String hash = sha256(entry.getKey());
+            memoryCache.put(new Key(hash, language), entry.getValue());
+
+            if (persistentEnabled) {
+                try {
+                    NewsTranslation translation = new NewsTranslation();
+                    translation.setSourceHash(hash);
+                    translation.setTargetLanguage(language);
+                    translation.setTranslatedText(entry.getValue());
+                    newsTranslationRepository.save(translation);
+                } catch (Exception e) {
+                    // Most likely another thread stored the same translation first
+                    log.debug("Could not persist translation {} for {}: {}", hash, language, e.getMessage());
+                }
+            }
+        }
+    }
+
+    static String normalizeLanguage(String targetLanguage) {
+        return targetLanguage.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,58 +1,133 @@
 package org.demo.services.impl;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.translate.Translate;
-import com.google.cloud.translate.TranslateOptions;
-import com.google.cloud.translate.Translation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.demo.services.Translator;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TranslationService {
 
-    @Value("${google.cloud.project.id}")
-    private String projectId;
-
-    private Translate getTranslateService() throws IOException {
-        try {
-            InputStream credentialsStream = new ClassPathResource("google-translate-credentials.json").getInputStream();
-            GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsStream);
-            
-            return TranslateOptions.newBuilder()
-                    .setProjectId(projectId)
-                    .setCredentials(credentials)
-                    .build()
-                    .getService();
-        } catch (IOException e) {
-            log.error("Error loading Google credentials: {}", e.getMessage(), e);
-            throw e;
+    private final TranslationCache translationCache;
+    private final Translator translator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.batch.max-segments:128}")
+    private int maxSegmentsPerRequest;
+
+    @Value("${translation.batch.max-chars:30000}")
+    private int maxCharsPerRequest;
+
+    /**
+     * Translates many texts with as few provider round trips as possible. Cached texts are served from
+     * the translation cache; the rest are chunked by the provider's per-request limits and sent as
+     * list translations. Texts that could not be translated are missing from the returned map.
+     */
+    public Map<String, String> translateTexts(Collection<String> texts, String targetLanguage) {
+        Set<String> distinctTexts = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null && !text.trim().isEmpty()) {
+                distinctTexts.add(text);
+            }
         }
+        if (distinctTexts.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // "DE " and "de" must share cache entries, metrics and provider requests
+        String language = TranslationCache.normalizeLanguage(targetLanguage);
+        Map<String, String> translated = new HashMap<>(translationCache.getAll(distinctTexts, language));
+        List<String> misses = distinctTexts.stream()
+                .filter(text -> !translated.containsKey(text))
+                .toList();
+        log.debug("Batch translation to {}: {} cached, {} to translate",
+                language, translated.size(), misses.size());
+        textCounter(language, "cache").increment(translated.size());
+        textCounter(language, "provider").increment(misses.size());
+
+        for (List<String> chunk : chunk(misses)) {
+            int chunkChars = chunk.stream().mapToInt(String::length).sum();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                List<String> results = translator.translateAll(chunk, language);
+                recordProviderCall(sample, language, chunkChars, "success");
+                Map<String, String> chunkTranslations = new HashMap<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunkTranslations.put(chunk.get(i), results.get(i));
+                }
+                translationCache.putAll(chunkTranslations, language);
+                translated.putAll(chunkTranslations);
+            } catch (Exception e) {
+                recordProviderCall(sample, language, chunkChars, "error");
+                log.error("Error translating batch of {} texts to {}: {}", chunk.size(), language, e.getMessage(), e);
+            }
+        }
+        return translated;
+    }
+
+    /**
+     * Counts texts to translate by whether they were served from the cache or sent to the provider
+     */
+    private Counter textCounter(String targetLanguage, String source) {
+        return Counter.builder("news.translation.texts")
+                .tag("language", String.valueOf(targetLanguage))
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the latency and the characters sent of one translation provider call
+     */
+    private void recordProviderCall(Timer.Sample sample, String targetLanguage, int chars, String outcome) {
+        sample.stop(Timer.builder("news.translation.request")
+                .description("Calls to the translation provider")
+                .tag("language", String.valueOf(targetLanguage))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        DistributionSummary.builder("news.translation.characters")
+                .description("Characters sent to the translation provider per call")
+                .baseUnit("characters")
+                .tag("language", String.valueOf(targetLanguage))
+                .register(meterRegistry)
+                .record(chars);
     }
 
-    public String translateText(String text, String targetLanguage) {
-        if (text == null || text.trim().isEmpty()) {
-            return text;
+    /**
+     * Splits texts into requests of at most maxSegmentsPerRequest texts and maxCharsPerRequest
+     * characters. A single text longer than the character limit is sent on its own.
+     */
+    private List<List<String>> chunk(List<String> texts) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentChars = 0;
+        for (String text : texts) {
+            if (!current.isEmpty()
+                    && (current.size() >= maxSegmentsPerRequest || currentChars + text.length() > maxCharsPerRequest)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentChars = 0;
+            }
+            current.add(text);
+            currentChars += text.length();
         }
-        
-        try {
-            Translate translate = getTranslateService();
-
-            Translation translation = translate.translate(
-                    text,
-                    Translate.TranslateOption.targetLanguage(targetLanguage)
-            );
-
-            log.debug("Successfully translated text to {}", targetLanguage);
-            return translation.getTranslatedText();
-        } catch (Exception e) {
-            log.error("Error translating text to {}: {}", targetLanguage, e.getMessage(), e);
-            throw new RuntimeException("Translation failed: " + e.getMessage(), e);
+        if (!current.isEmpty()) {
+            chunks.add(current);
         }
+        return chunks;
     }
-} 
\ No newline at end of file
+}
@@ -1,18 +1,40 @@
 package org.demo.services.impl;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.demo.models.ScrapedPage;
 import org.demo.models.dto.NewsDTO;
+import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
-import javax.net.ssl.*;
-import java.security.cert.X509Certificate;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 
 @Slf4j
@@ -20,10 +42,12 @@ import java.security.cert.X509Certificate;
 @RequiredArgsConstructor
 public class WebScraperService {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${web.scraper.timeout:10000}")
-    private int timeout;
+    private final WebClient scraperWebClient;
+    private final HostRateLimiter hostRateLimiter;
+    private final ScrapeCache scrapeCache;
+    private final HostExtractionProfiles hostProfiles;
+    private final HostHealthTracker hostHealth;
+    private final MeterRegistry meterRegistry;
 
     @Value("${web.scraper.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36}")
     private String userAgent;
@@ -31,109 +55,232 @@ public class WebScraperService {
     @Value("${web.scraper.enabled:true}")
     private boolean enabled;
 
-    @Value("${web.scraper.ignore-ssl:true}")
-    private boolean ignoreSsl;
-
-    static {
-        // Configure SSL to ignore certificate validation issues
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                new X509TrustManager() {
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return null;
-                    }
-                    public void checkClientTrusted(X509Certificate[] certs, String authType) {
-                    }
-                    public void checkServerTrusted(X509Certificate[] certs, String authType) {
-                    }
-                }
-            };
+    @Value("${web.scraper.max-body-bytes:2097152}")
+    private int maxBodyBytes;
 
-            SSLContext sc = SSLContext.getInstance("SSL");
-            sc.init(null, trustAllCerts, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-
-            // Create all-trusting host name verifier
-            HostnameVerifier allHostsValid = (hostname, session) -> true;
-            HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
-        } catch (Exception e) {
-            log.warn("Failed to configure SSL trust settings: {}", e.getMessage());
-        }
-    }
+    private static final int MAX_RETRIES = 2;
 
     /**
-     * Fetches full article content from a given URL
+     * Fetches the full article content and image of the article's source URL. The page is downloaded
+     * through the Netty {@link WebClient} and the host limiter is awaited on timers, so no thread is
+     * parked while a page is in flight. Only parsing and extraction run on the parallel scheduler.
+     * <p>
+     * Pages scraped within {@code web.scraper.cache.fresh-seconds} are served from the scrape cache;
+     * older cached pages are revalidated with a conditional GET and not parsed again on 304.
      */
-    public NewsDTO fetchArticleContent(NewsDTO newsDTO) {
+    public Mono<NewsDTO> fetchArticleContent(NewsDTO newsDTO) {
         String url = newsDTO.getSourceUrl();
         if (!enabled || url == null || url.isEmpty()) {
             log.debug("Web scraping disabled or invalid URL");
-            return newsDTO;
+            return Mono.just(newsDTO);
         }
 
-        int maxRetries = 2;
-        int retryCount = 0;
-        
-        while (retryCount <= maxRetries) {
-            try {
-                log.debug("Fetching content from URL: {} (attempt {})", url, retryCount + 1);
-                Document doc = Jsoup
-                        .connect(url)
-                        .userAgent(userAgent)
-                        .header("Accept-Language", "*")
-                        .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8")
-                        .header("Accept-Encoding", "gzip, deflate")
-                        .header("Connection", "keep-alive")
-                        .header("Upgrade-Insecure-Requests", "1")
-                        .timeout(timeout)
-                        .followRedirects(true)
-                        .maxBodySize(0) // No limit on body size
-                        .get();
-
-                // Extract article content
-                String content = extractArticleContent(doc);
-                if (content != null && !content.trim().isEmpty()) {
-                    newsDTO.setContent(content);
-                    log.debug("Successfully extracted content for article: {}", newsDTO.getTitle());
-                }
+        return scrapeCache.lookup(url)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cached -> {
+                    if (cached.isPresent() && scrapeCache.isFresh(cached.get())) {
+                        log.debug("Using cached content for URL: {}", url);
+                        applyExtraction(newsDTO, cached.get().getContent(), cached.get().getImageUrl());
+                        return Mono.just(newsDTO);
+                    }
+                    return fetchAndExtract(newsDTO, url, cached.orElse(null));
+                })
+                .onErrorResume(e -> {
+                    Throwable cause = Exceptions.isRetryExhausted(e) ? e.getCause() : e;
+                    log.error("Error fetching content from URL {}: {}", url, cause.getMessage());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(newsDTO);
+    }
 
-                // Extract article image
-                String imageUrl = extractArticleImage(doc, url);
-                if (imageUrl != null && !imageUrl.isEmpty()) {
-                    newsDTO.setImageUrl(imageUrl);
-                    log.debug("Successfully extracted image URL for article: {}", newsDTO.getTitle());
-                }
+    private Mono<NewsDTO> fetchAndExtract(NewsDTO newsDTO, String url, ScrapedPage cached) {
+        if (!hostHealth.tryAcquire(url)) {
+            log.debug("Skipping URL {}: circuit open for its host", url);
+            meterRegistry.counter("news.scrape.skipped", "host", HostRateLimiter.hostOf(url)).increment();
+            if (cached != null) {
+                applyExtraction(newsDTO, cached.getContent(), cached.getImageUrl());
+            }
+            return Mono.just(newsDTO);
+        }
+        return Mono.usingWhen(hostRateLimiter.acquireAsync(url),
+                        permit -> downloadPage(url, cached),
+                        permit -> Mono.fromRunnable(permit::close))
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(500))
+                        .jitter(0.5)
+                        .filter(e -> (e instanceof HttpStatusException || e instanceof IOException
+                                || e instanceof WebClientRequestException || e instanceof TimeoutException)
+                                && !hostHealth.isOpen(url))
+                        .doBeforeRetry(signal -> log.warn("Error fetching content from URL {} (attempt {}): {}. Retrying...",
+                                url, signal.totalRetries() + 1, signal.failure().getMessage())))
+                .flatMap(page -> {
+                    if (page.notModified()) {
+                        log.debug("URL {} not modified since it was cached", url);
+                        applyExtraction(newsDTO, cached.getContent(), cached.getImageUrl());
+                        return scrapeCache.touch(cached).thenReturn(newsDTO);
+                    }
+                    String learnedSelector = hostProfiles.selectorFor(url);
+                    return Mono.fromCallable(() -> extractionTimer().recordCallable(() -> {
+                                Document doc = parseArticlePage(page.body(), page.charset(), url);
+                                return extractArticle(doc, url, learnedSelector);
+                            }))
+                            .subscribeOn(Schedulers.parallel())
+                            .flatMap(extracted -> {
+                                applyExtraction(newsDTO, extracted.content(), extracted.imageUrl());
+                                return hostProfiles.record(url, learnedSelector, extracted.contentSelector())
+                                        .then(scrapeCache.store(url, cached, extracted.content(), extracted.imageUrl(),
+                                                page.etag(), page.lastModified()))
+                                        .thenReturn(newsDTO);
+                            });
+                });
+    }
 
-                // If we get here, the request was successful
-                break;
+    /**
+     * A downloaded page, or a 304 answer to a conditional request
+     */
+    private record PageDownload(boolean notModified, byte[] body, Charset charset, String etag, String lastModified) {
+    }
 
-            } catch (Exception e) {
-                retryCount++;
-                if (retryCount > maxRetries) {
-                    log.error("Error fetching content from URL {} after {} attempts: {}", url, maxRetries + 1, e.getMessage());
-                } else {
-                    log.warn("Error fetching content from URL {} (attempt {}): {}. Retrying...", url, retryCount, e.getMessage());
-                    try {
-                        Thread.sleep(1000 * retryCount); // Wait before retry
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
+    /**
+     * Downloads a page, completing empty when the page should not be retried. With a cached version
+     * the request is made conditional on the cached validators. The deadline is the host's adaptive
+     * timeout, and the outcome feeds the host's breaker and latency statistics.
+     */
+    private Mono<PageDownload> downloadPage(String url, ScrapedPage cached) {
+        log.debug("Fetching content from URL: {}", url);
+        long start = System.nanoTime();
+        return scraperWebClient.get()
+                .uri(URI.create(url))
+                .header(HttpHeaders.USER_AGENT, userAgent)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "*")
+                .header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8")
+                .headers(headers -> {
+                    if (cached != null && cached.getEtag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, cached.getEtag());
                     }
-                }
-            }
+                    if (cached != null && cached.getLastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    int status = response.statusCode().value();
+                    if (status == 304 && cached != null) {
+                        return response.releaseBody().thenReturn(new PageDownload(true, null, null, null, null));
+                    }
+                    if (status == 429 || status == 503) {
+                        // The host asked us to slow down; the limiter holds back all requests to it
+                        boolean retry = hostRateLimiter.backOff(url, response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                        if (!retry) {
+                            log.warn("Giving up on URL {}: host asked for a pause longer than allowed", url);
+                        }
+                        return response.releaseBody().then(retry ? Mono.error(new RateLimitedException(status, url)) : Mono.empty());
+                    }
+                    if (status >= 300 && status < 500) {
+                        log.warn("Not retrying URL {}: HTTP status {}", url, status);
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    if (status >= 500) {
+                        return response.releaseBody().then(Mono.error(new HttpStatusException("HTTP error fetching URL", status, url)));
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    if (headers.getContentLength() > maxBodyBytes) {
+                        log.debug("URL {} declares {} bytes, reading only the first {}", url, headers.getContentLength(), maxBodyBytes);
+                    }
+                    // Without a charset in the header, the parser detects it from the BOM or <meta charset>
+                    Charset charset = headers.getContentType() != null ? headers.getContentType().getCharset() : null;
+                    // Stop reading, and cancel the transfer, once the byte cap is reached
+                    return DataBufferUtils.join(DataBufferUtils.takeUntilByteCount(
+                                    response.bodyToFlux(DataBuffer.class), maxBodyBytes))
+                            .map(buffer -> {
+                                byte[] body = new byte[buffer.readableByteCount()];
+                                buffer.read(body);
+                                DataBufferUtils.release(buffer);
+                                return new PageDownload(false, body, charset, headers.getETag(),
+                                        headers.getFirst(HttpHeaders.LAST_MODIFIED));
+                            });
+                })
+                .timeout(hostHealth.timeoutFor(url))
+                .doOnSuccess(page -> {
+                    hostHealth.recordSuccess(url, elapsedMillis(start));
+                    recordDownload(url, start, page == null ? "skipped" : page.notModified() ? "not_modified" : "success");
+                    if (page != null && !page.notModified()) {
+                        DistributionSummary.builder("news.scrape.bytes")
+                                .description("Size of downloaded article pages")
+                                .baseUnit("bytes")
+                                .tag("host", HostRateLimiter.hostOf(url))
+                                .register(meterRegistry)
+                                .record(page.body().length);
+                    }
+                })
+                .doOnError(e -> {
+                    if (e instanceof WebClientRequestException) {
+                        hostHealth.recordFailure(url, -1);
+                    } else if (!(e instanceof RateLimitedException)) {
+                        hostHealth.recordFailure(url, elapsedMillis(start));
+                    }
+                    recordDownload(url, start, e instanceof RateLimitedException ? "rate_limited" : "error");
+                });
+    }
+
+    private void recordDownload(String url, long startNanos, String outcome) {
+        Timer.builder("news.scrape.duration")
+                .description("Download of one article page, per attempt")
+                .tag("host", HostRateLimiter.hostOf(url))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer extractionTimer() {
+        return Timer.builder("news.extraction.duration")
+                .description("Parsing a page and extracting its content and image")
+                .register(meterRegistry);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Parses a downloaded page. The whole page is parsed: content selectors join every match in
+     * the document, and the scorer and learned selectors need all of it, so there is no point at
+     * which the rest of the page could be skipped. The size of the page is bounded by
+     * {@code web.scraper.max-body-bytes} instead.
+     *
+     * @param charset the charset declared in the Content-Type header, or null
+     */
+    Document parseArticlePage(byte[] body, Charset charset, String url) throws IOException {
+        // A null charset makes jsoup detect it from the BOM or <meta charset>, falling back to UTF-8
+        return Jsoup.parse(new ByteArrayInputStream(body), charset != null ? charset.name() : null, url);
+    }
+
+    /**
+     * Copies the extracted content and image of a page onto the article
+     */
+    private void applyExtraction(NewsDTO newsDTO, String content, String imageUrl) {
+        if (content != null && !content.trim().isEmpty()) {
+            newsDTO.setContent(content);
+            log.debug("Successfully extracted content for article: {}", newsDTO.getTitle());
+        }
+        if (imageUrl != null && !imageUrl.isEmpty()) {
+            newsDTO.setImageUrl(imageUrl);
+            log.debug("Successfully extracted image URL for article: {}", newsDTO.getTitle());
         }
-        
-        return newsDTO;
     }
 
     /**
-     * Extracts the main article content from the document
+     * Signals a 429/503 answer; the retry delay is owned by {@link HostRateLimiter}
      */
-    private String extractArticleContent(Document doc) {
-        // Common selectors for article content in order of preference
-        String[] contentSelectors = {
+    private static class RateLimitedException extends HttpStatusException {
+        RateLimitedException(int statusCode, String url) {
+            super("Rate limited by source host", statusCode, url);
+        }
+    }
+
+    // Content selectors in order of preference
+    private static final List<String> CONTENT_SELECTORS = List.of(
             "article .content",
-            "article .article-content", 
+            "article .article-content",
             "article .post-content",
             "article .entry-content",
             "article .article-body",
@@ -142,36 +289,104 @@ public class WebScraperService {
             "article p",
             ".content",
             ".article-content",
-            ".post-content", 
+            ".post-content",
             ".entry-content",
             ".article-body",
             ".story-body",
             ".article-text"
-        };
+    );
+
+    // Image selectors in order of preference
+    private static final List<String> IMAGE_SELECTORS = List.of(
+            "article img",
+            ".article-image img",
+            ".post-image img",
+            ".entry-image img",
+            ".featured-image img",
+            ".hero-image img",
+            ".main-image img",
+            ".article-header img",
+            ".post-header img"
+    );
+
+    // Shorter selected text is treated as a miss
+    private static final int MIN_CONTENT_LENGTH = 100;
+
+    private static final int PARAGRAPHS = CONTENT_SELECTORS.size() + IMAGE_SELECTORS.size();
+    private static final int ALL_IMAGES = PARAGRAPHS + 1;
+
+    // Every candidate selector plus the "p" and "img" fallbacks, evaluated in one document traversal
+    static final List<String> PLAN_SELECTORS = Stream.of(
+            CONTENT_SELECTORS.stream(), IMAGE_SELECTORS.stream(), Stream.of("p", "img"))
+            .flatMap(selectors -> selectors)
+            .toList();
+    private static final ExtractionPlan EXTRACTION_PLAN = new ExtractionPlan(PLAN_SELECTORS);
+
+    /**
+     * Content and image extracted from a page, with the selector that produced the content when
+     * it is worth remembering for the publisher
+     */
+    record Extraction(String content, String imageUrl, String contentSelector) {
+    }
+
+    /**
+     * Extracts the main article content and image with a single traversal of the document.
+     * <p>
+     * Content comes from the first of: the selector learned for the publisher, the fixed content
+     * selectors, the block found by {@link ContentScorer}, and finally every substantial paragraph
+     * of the page.
+     *
+     * @param learnedSelector the publisher's learned content selector, or null
+     */
+    Extraction extractArticle(Document doc, String baseUrl, String learnedSelector) {
+        List<List<Element>> matches = EXTRACTION_PLAN.match(doc);
+        Extraction content = extractArticleContent(doc, matches, learnedSelector);
+        return new Extraction(content.content(), extractArticleImage(doc, baseUrl, matches), content.contentSelector());
+    }
+
+    /**
+     * Extracts the main article content from the document
+     */
+    String extractArticleContent(Document doc) {
+        return extractArticleContent(doc, EXTRACTION_PLAN.match(doc), null).content();
+    }
+
+    /**
+     * Extracts the main article image from the document
+     */
+    String extractArticleImage(Document doc, String baseUrl) {
+        return extractArticleImage(doc, baseUrl, EXTRACTION_PLAN.match(doc));
+    }
+
+    private Extraction extractArticleContent(Document doc, List<List<Element>> matches, String learnedSelector) {
+        if (learnedSelector != null) {
+            String extractedContent = selectedText(select(doc, learnedSelector));
+            if (extractedContent.length() > MIN_CONTENT_LENGTH) {
+                return new Extraction(extractedContent, null, learnedSelector);
+            }
+        }
 
-        for (String selector : contentSelectors) {
-            Elements elements = doc.select(selector);
+        for (int i = 0; i < CONTENT_SELECTORS.size(); i++) {
+            List<Element> elements = attached(doc, matches.get(i));
             if (!elements.isEmpty()) {
-                StringBuilder content = new StringBuilder();
-                for (Element element : elements) {
-                    // Remove script and style elements
-                    element.select("script, style, .advertisement, .ads, .social-share").remove();
-                    
-                    String text = element.text().trim();
-                    if (!text.isEmpty()) {
-                        content.append(text).append("\n\n");
-                    }
-                }
-                
-                String extractedContent = content.toString().trim();
-                if (extractedContent.length() > 100) { // Ensure we have substantial content
-                    return extractedContent;
+                String extractedContent = selectedText(elements);
+                if (extractedContent.length() > MIN_CONTENT_LENGTH) {
+                    return new Extraction(extractedContent, null, CONTENT_SELECTORS.get(i));
                 }
             }
         }
 
+        // None of the known layouts matched: score the blocks of the page by text and link density
+        Element mainContent = ContentScorer.findMainContent(doc);
+        if (mainContent != null) {
+            String extractedContent = selectedText(List.of(mainContent));
+            if (extractedContent.length() > MIN_CONTENT_LENGTH) {
+                return new Extraction(extractedContent, null, ContentScorer.selectorOf(mainContent));
+            }
+        }
+
         // Fallback: extract all paragraph text from the document
-        Elements paragraphs = doc.select("p");
+        List<Element> paragraphs = attached(doc, matches.get(PARAGRAPHS));
         if (!paragraphs.isEmpty()) {
             StringBuilder content = new StringBuilder();
             for (Element p : paragraphs) {
@@ -180,32 +395,41 @@ public class WebScraperService {
                     content.append(text).append("\n\n");
                 }
             }
-            return content.toString().trim();
+            return new Extraction(content.toString().trim(), null, null);
         }
 
-        return null;
+        return new Extraction(null, null, null);
     }
 
     /**
-     * Extracts the main article image from the document
+     * Joins the text of the elements, without scripts, styles and share or ad widgets
      */
-    private String extractArticleImage(Document doc, String baseUrl) {
-        // Common selectors for article images in order of preference
-        String[] imageSelectors = {
-            "article img",
-            ".article-image img",
-            ".post-image img", 
-            ".entry-image img",
-            ".featured-image img",
-            ".hero-image img",
-            ".main-image img",
-            ".article-header img",
-            ".post-header img"
-        };
+    private String selectedText(List<Element> elements) {
+        StringBuilder content = new StringBuilder();
+        for (Element element : elements) {
+            // Remove script and style elements
+            element.select("script, style, .advertisement, .ads, .social-share").remove();
 
-        for (String selector : imageSelectors) {
-            Elements images = doc.select(selector);
-            for (Element img : images) {
+            String text = element.text().trim();
+            if (!text.isEmpty()) {
+                content.append(text).append("\n\n");
+            }
+        }
+        return content.toString().trim();
+    }
+
+    private List<Element> select(Document doc, String selector) {
+        try {
+            return doc.select(selector);
+        } catch (Selector.SelectorParseException e) {
+            log.warn("Ignoring invalid learned content selector {}: {}", selector, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private String extractArticleImage(Document doc, String baseUrl, List<List<Element>> matches) {
+        for (int i = 0; i < IMAGE_SELECTORS.size(); i++) {
+            for (Element img : attached(doc, matches.get(CONTENT_SELECTORS.size() + i))) {
                 String src = img.attr("src");
                 if (src != null && !src.isEmpty()) {
                     // Convert relative URLs to absolute URLs
@@ -218,8 +442,7 @@ public class WebScraperService {
         }
 
         // Fallback: look for any image with reasonable dimensions
-        Elements allImages = doc.select("img");
-        for (Element img : allImages) {
+        for (Element img : attached(doc, matches.get(ALL_IMAGES))) {
             String src = img.attr("src");
             String width = img.attr("width");
             String height = img.attr("height");
@@ -238,6 +461,20 @@ public class WebScraperService {
         return null;
     }
 
+    /**
+     * Content extraction removes boilerplate subtrees, so matches collected before it may no longer
+     * be part of the document; a fresh select would not return those
+     */
+    private static List<Element> attached(Document doc, List<Element> elements) {
+        List<Element> attached = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            if (element.ownerDocument() == doc) {
+                attached.add(element);
+            }
+        }
+        return attached;
+    }
+
     /**
      * Converts relative URLs to absolute URLs
      */
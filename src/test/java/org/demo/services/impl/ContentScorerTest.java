@@ -0,0 +1,76 @@
+package org.demo.services.impl;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ContentScorerTest {
+
+    private static final String PROSE = "The council approved the new budget on Tuesday, after a debate that lasted "
+            + "well into the evening, and the mayor said the plan would take effect next month.";
+
+    @Test
+    void picksArticleBodyOverNavigationAndRelatedBlocks() {
+        Document doc = Jsoup.parse("""
+                <body>
+                  <div id="menu"><a href="/a">Politics</a> <a href="/b">Business</a> <a href="/c">Sports</a></div>
+                  <div class="related">
+                    <p><a href="/x">%1$s</a></p>
+                    <p><a href="/y">%1$s</a></p>
+                  </div>
+                  <div class="layout">
+                    <div class="story-text">
+                      <p>%1$s</p>
+                      <p>%1$s</p>
+                      <p>%1$s</p>
+                    </div>
+                  </div>
+                  <div class="links">
+                    <p><a href="/1">%1$s</a> <a href="/2">%1$s</a></p>
+                    <p><a href="/3">%1$s</a> <a href="/4">%1$s</a></p>
+                    <p><a href="/5">%1$s</a> <a href="/6">%1$s</a></p>
+                    <p><a href="/7">%1$s</a> <a href="/8">%1$s</a></p>
+                  </div>
+                  <footer><p>%1$s</p></footer>
+                </body>
+                """.formatted(PROSE));
+
+        Element content = ContentScorer.findMainContent(doc);
+
+        assertNotNull(content);
+        assertEquals("story-text", content.className());
+        assertEquals("div.story-text", ContentScorer.selectorOf(content));
+    }
+
+    @Test
+    void findsNothingOnPagesWithoutProse() {
+        Document doc = Jsoup.parse("<body><div><p>Short.</p><a href=\"/more\">More</a></div></body>");
+
+        assertNull(ContentScorer.findMainContent(doc));
+    }
+
+    @Test
+    void measuresLinkDensity() {
+        Element block = Jsoup.parse("<div>abcde <a href=\"/\">fghij</a></div>").selectFirst("div");
+
+        assertEquals(5.0 / 11, ContentScorer.linkDensity(block), 1e-9);
+    }
+
+    @Test
+    void selectorsAvoidGeneratedAndAmbiguousNames() {
+        Document doc = Jsoup.parse("""
+                <div id="post-123456" class="entry css-1234abc"><p>one</p></div>
+                <div class="entry"><p>two</p></div>
+                <section id="main-story"><p>three</p></section>
+                """);
+
+        assertNull(ContentScorer.selectorOf(doc.selectFirst("div")));
+        assertEquals("#main-story", ContentScorer.selectorOf(doc.selectFirst("section")));
+        assertNull(ContentScorer.selectorOf(doc.body()));
+    }
+}
@@ -0,0 +1,66 @@
+package org.demo.services.impl;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExtractionPlanTest {
+
+    // The pages the extraction benchmarks run on
+    private static final Path FIXTURES = Path.of("src/jmh/resources/fixtures");
+
+    private static final ExtractionPlan PLAN = new ExtractionPlan(WebScraperService.PLAN_SELECTORS);
+
+    @Test
+    void matchesSelectOnBenchmarkFixtures() throws IOException {
+        List<Path> pages;
+        try (Stream<Path> files = Files.list(FIXTURES)) {
+            pages = files.filter(file -> file.toString().endsWith(".html")).sorted().toList();
+        }
+        assertFalse(pages.isEmpty(), "no HTML fixtures found in " + FIXTURES);
+        for (Path page : pages) {
+            Document doc = Jsoup.parse(Files.readString(page, StandardCharsets.UTF_8), "https://example.com/");
+            assertMatchesSelect(doc, page.getFileName().toString());
+        }
+    }
+
+    @Test
+    void matchesSelectOnNestedAndRepeatedAncestors() {
+        Document doc = Jsoup.parse("""
+                <article class="content">
+                  <div class="content"><p>outer <span class="content">inner</span></p></div>
+                  <article><p>nested article</p><div class="post-image"><img src="a.jpg"></div></article>
+                </article>
+                <div class="post-image"><div class="post-image"><img src="b.jpg"></div></div>
+                <p class="story-body">outside <img src="c.jpg"></p>
+                <ARTICLE><DIV CLASS="Article-Body">case</DIV></ARTICLE>
+                """, "https://example.com/");
+        assertMatchesSelect(doc, "nested page");
+    }
+
+    @Test
+    void rejectsSelectorsItCannotEvaluate() {
+        assertThrows(IllegalArgumentException.class, () -> new ExtractionPlan(List.of("article div p")));
+        assertThrows(IllegalArgumentException.class, () -> new ExtractionPlan(List.of(" ")));
+    }
+
+    private static void assertMatchesSelect(Document doc, String name) {
+        List<List<Element>> matches = PLAN.match(doc);
+        for (int i = 0; i < WebScraperService.PLAN_SELECTORS.size(); i++) {
+            String selector = WebScraperService.PLAN_SELECTORS.get(i);
+            assertEquals(doc.select(selector), matches.get(i), selector + " on " + name);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.demo.services.impl;
+
+import org.demo.models.HostExtractionProfile;
+import org.demo.repositories.HostExtractionProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HostExtractionProfilesTest {
+
+    private static final String PAGE = "https://News.Example.com/world/story-1";
+    private static final String OTHER_PAGE = "https://news.example.com/world/story-2";
+
+    private HostExtractionProfileRepository repository;
+    private HostExtractionProfiles profiles;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(HostExtractionProfileRepository.class);
+        when(repository.findAll()).thenReturn(List.of());
+        profiles = new HostExtractionProfiles(repository, Schedulers.immediate());
+        ReflectionTestUtils.setField(profiles, "enabled", true);
+        ReflectionTestUtils.setField(profiles, "maxMisses", 3);
+        profiles.init();
+    }
+
+    @Test
+    void learnsTheWinningSelectorOfAnUnknownHost() {
+        profiles.record(PAGE, null, "div.story").block();
+
+        assertEquals("div.story", profiles.selectorFor(OTHER_PAGE));
+        verify(repository).save(any(HostExtractionProfile.class));
+    }
+
+    @Test
+    void ignoresPagesOfUnknownHostsWithoutAWinner() {
+        profiles.record(PAGE, null, null).block();
+
+        assertNull(profiles.selectorFor(PAGE));
+        verify(repository, never()).save(any(HostExtractionProfile.class));
+    }
+
+    @Test
+    void keepsTheSelectorUntilItMissesMaxMissesPagesInARow() {
+        profiles.record(PAGE, null, "div.story").block();
+
+        profiles.record(PAGE, "div.story", "article p").block();
+        profiles.record(PAGE, "div.story", "article p").block();
+        assertEquals("div.story", profiles.selectorFor(PAGE));
+
+        profiles.record(PAGE, "div.story", "article p").block();
+        assertEquals("article p", profiles.selectorFor(PAGE));
+    }
+
+    @Test
+    void aHitResetsTheMissCount() {
+        profiles.record(PAGE, null, "div.story").block();
+        profiles.record(PAGE, "div.story", "article p").block();
+        profiles.record(PAGE, "div.story", "article p").block();
+
+        profiles.record(PAGE, "div.story", "div.story").block();
+        profiles.record(PAGE, "div.story", "article p").block();
+        profiles.record(PAGE, "div.story", "article p").block();
+
+        assertEquals("div.story", profiles.selectorFor(PAGE));
+    }
+
+    @Test
+    void unchangedHitsAreNotWrittenAgain() {
+        profiles.record(PAGE, null, "div.story").block();
+        profiles.record(PAGE, "div.story", "div.story").block();
+        profiles.record(PAGE, "div.story", "div.story").block();
+
+        verify(repository, times(1)).save(any(HostExtractionProfile.class));
+    }
+
+    @Test
+    void forgetsTheSelectorWhenNothingQualifiesAnyMore() {
+        profiles.record(PAGE, null, "div.story").block();
+
+        for (int i = 0; i < 3; i++) {
+            profiles.record(PAGE, "div.story", null).block();
+        }
+
+        assertNull(profiles.selectorFor(PAGE));
+        verify(repository).deleteById("news.example.com");
+    }
+}
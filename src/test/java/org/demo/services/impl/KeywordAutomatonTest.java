@@ -0,0 +1,61 @@
+package org.demo.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class KeywordAutomatonTest {
+
+    private static final List<String> KEYWORDS = List.of(
+            "ai", "artificial intelligence", "new york new", "york", "art", "5g", "e-sports", "go", "goal");
+    private static final int[] GROUPS = {0, 0, 1, 1, 2, 0, 3, 3, 3};
+    private static final int[] WEIGHTS = {1, 2, 3, 1, 1, 1, 1, 1, 2};
+
+    private static final KeywordAutomaton AUTOMATON = new KeywordAutomaton(KEYWORDS, GROUPS, WEIGHTS);
+
+    @Test
+    void countsWholeWordOccurrencesLikeTheRegexClassifier() {
+        List<String> texts = List.of(
+                "ai and artificial intelligence: the art of ai",
+                "email, said, fair, aid and taiwan contain no whole word",
+                "new york new york new yorker",
+                "5g rollout; 5 g; 55g; the 5g-ready phone",
+                "e-sports fans go to the goal, not the goalpost. go!",
+                "ai\u00e9 ai\u00ed na\u00efve art\u00e9 \u00e9ai caf\u00e9 art ai\u0301",
+                "",
+                "ai");
+        for (String text : texts) {
+            assertArrayEquals(regexScores(text), automatonScores(text), text);
+        }
+    }
+
+    @Test
+    void overlappingOccurrencesOfOneKeywordCountOnce() {
+        // "new york new" occurs at 0 and 9; like Matcher.find, only the first counts
+        int[] scores = automatonScores("new york new york new");
+
+        assertArrayEquals(new int[]{0, 3 + 2, 0, 0}, scores);
+    }
+
+    private static int[] automatonScores(String text) {
+        int[] scores = new int[4];
+        AUTOMATON.score(text, scores);
+        return scores;
+    }
+
+    // The per-keyword regex scan the automaton replaced
+    private static int[] regexScores(String text) {
+        int[] scores = new int[4];
+        for (int k = 0; k < KEYWORDS.size(); k++) {
+            Matcher matcher = Pattern.compile("\\b" + Pattern.quote(KEYWORDS.get(k)) + "\\b").matcher(text);
+            while (matcher.find()) {
+                scores[GROUPS[k]] += WEIGHTS[k];
+            }
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,46 @@
+package org.demo.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    private static final String STORY = "Central bank raises interest rates by a quarter point to curb inflation "
+            + "as consumer prices climb for the third straight month";
+
+    @Test
+    void splitsLowerCaseWordsOnEverythingButLettersAndDigits() {
+        assertEquals(List.of("u", "s", "jobs", "report", "2024", "caf\u00e9"),
+                List.copyOf(MinHash.words("U.S. jobs-report: 2024, Caf\u00e9!")));
+        assertTrue(MinHash.words(null).isEmpty());
+    }
+
+    @Test
+    void signaturesDependOnlyOnTheWordSet() {
+        int[] signature = MinHash.signature(MinHash.words(STORY));
+
+        assertArrayEquals(signature, MinHash.signature(MinHash.words(STORY.toUpperCase() + " rates")));
+        assertEquals(1.0, MinHash.similarity(signature, signature));
+    }
+
+    @Test
+    void estimatesJaccardSimilarity() {
+        Set<String> words = MinHash.words(STORY);
+        Set<String> syndicated = MinHash.words(STORY.replace("third", "fourth") + " reuters");
+        Set<String> unrelated = MinHash.words("Local team wins the championship after a dramatic overtime goal "
+                + "in front of a sold out home crowd");
+
+        double nearSimilarity = MinHash.similarity(MinHash.signature(words), MinHash.signature(syndicated));
+        double unrelatedSimilarity = MinHash.similarity(MinHash.signature(words), MinHash.signature(unrelated));
+
+        // Exact Jaccard similarities are 20/23 and 2/36; 64 hashes estimate them within about 0.15
+        assertTrue(nearSimilarity >= 0.7, "near duplicate similarity " + nearSimilarity);
+        assertTrue(unrelatedSimilarity <= 0.2, "unrelated similarity " + unrelatedSimilarity);
+    }
+}
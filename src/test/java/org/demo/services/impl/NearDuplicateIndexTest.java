@@ -0,0 +1,87 @@
+package org.demo.services.impl;
+
+import org.demo.models.dto.NewsSummary;
+import org.demo.repositories.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearDuplicateIndexTest {
+
+    private static final String TITLE = "Central bank raises interest rates by a quarter point";
+    private static final String DESCRIPTION = "The move to curb inflation comes as consumer prices climb for the third straight month";
+
+    private NewsRepository newsRepository;
+    private NearDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        newsRepository = mock(NewsRepository.class);
+        when(newsRepository.findSummariesPublishedSince(any(LocalDateTime.class))).thenReturn(List.of());
+        index = new NearDuplicateIndex(newsRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "similarityThreshold", 0.7);
+        ReflectionTestUtils.setField(index, "minWords", 8);
+        ReflectionTestUtils.setField(index, "windowDays", 7);
+        index.init();
+    }
+
+    @Test
+    void findsSyndicatedCopiesOfIndexedArticles() {
+        index.add(1L, index.signatureOf(TITLE, DESCRIPTION));
+
+        assertEquals(1L, index.findNearDuplicate(index.signatureOf(TITLE, DESCRIPTION + " (Reuters)")));
+        assertNull(index.findNearDuplicate(index.signatureOf("Local team wins the championship after a dramatic overtime goal",
+                "A sold out home crowd celebrated late into the night")));
+    }
+
+    @Test
+    void ignoresTextsTooShortForAReliableSignature() {
+        assertNull(index.signatureOf("Rates rise", null));
+    }
+
+    @Test
+    void removesDeletedArticlesWithoutReloading() {
+        index.add(1L, index.signatureOf(TITLE, DESCRIPTION));
+
+        index.onNewsChanged(NewsChangedEvent.deleted(1L));
+
+        assertNull(index.findNearDuplicate(index.signatureOf(TITLE, DESCRIPTION)));
+        verify(newsRepository, times(1)).findSummariesPublishedSince(any(LocalDateTime.class));
+    }
+
+    @Test
+    void insertsDoNotChangeTheIndex() {
+        index.add(1L, index.signatureOf(TITLE, DESCRIPTION));
+
+        index.onNewsChanged(new NewsChangedEvent("business"));
+
+        assertEquals(1L, index.findNearDuplicate(index.signatureOf(TITLE, DESCRIPTION)));
+        verify(newsRepository, times(1)).findSummariesPublishedSince(any(LocalDateTime.class));
+    }
+
+    @Test
+    void reloadsRecentArticlesAfterUntrackedDeletions() {
+        index.add(1L, index.signatureOf(TITLE, DESCRIPTION));
+        NewsSummary stored = mock(NewsSummary.class);
+        when(stored.getId()).thenReturn(2L);
+        when(stored.getTitle()).thenReturn(TITLE);
+        when(stored.getDescription()).thenReturn(DESCRIPTION);
+        when(newsRepository.findSummariesPublishedSince(any(LocalDateTime.class))).thenReturn(List.of(stored));
+
+        index.onNewsChanged(NewsChangedEvent.anyCategory());
+
+        assertEquals(2L, index.findNearDuplicate(index.signatureOf(TITLE, DESCRIPTION)));
+    }
+}